@@ -9,6 +9,7 @@ repositories {
 
 dependencies {
     implementation(project(":lib"))
+    annotationProcessor(project(":processor"))
     implementation("com.github.librepdf:openpdf:1.3.30")
     testImplementation("org.junit.jupiter:junit-jupiter:5.9.3")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -0,0 +1,68 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfReader;
+import dev.lucasmendes.simple_pdf.configurations.AutoColumnWidths;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.DataTable;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the pages, the size and the time of a report with a long text column, with columns of the same width and
+ * with the widths computed from a sample of the rows and from all of them.
+ */
+public class AutoColumnWidthsBenchmark {
+    private static final int ROWS = 5_000;
+
+    public static void main(String[] args) throws IOException {
+        var items = IntStream.range(0, ROWS).mapToObj(Order::new).collect(Collectors.toList());
+        for (int round = 0; round < 3; round++) {
+            run("same width", items, null);
+            run("sampled", items, new AutoColumnWidths());
+            run("all rows", items, AutoColumnWidths.allRows());
+        }
+    }
+
+    private static void run(String name, List<Order> items, AutoColumnWidths autoColumnWidths) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(8f), true);
+            var editor = wrapper.open().toEditor();
+            editor.add(DataTable.<Order>builder()
+                    .pdfCommons(editor.getPdfCommons())
+                    .style(editor.getPdfCommons().getDefaultDataTableStyle())
+                    .items(items)
+                    .objectClass(Order.class)
+                    .autoColumnWidths(autoColumnWidths)
+                    .build());
+        }
+        var elapsed = System.nanoTime() - start;
+        var pages = new PdfReader(output.toByteArray()).getNumberOfPages();
+        System.out.printf("%-10s %4d pages, %,8d KiB, %,5d ms%n", name, pages, output.size() / 1024, elapsed / 1_000_000);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Order {
+        private final int id;
+        private final String sku;
+        private final String description;
+        private final int quantity;
+        private final String status;
+
+        private Order(int id) {
+            this.id = id;
+            this.sku = "SKU-" + (10_000 + id % 977);
+            this.description = "Replacement part for the assembly line " + (id % 37) + ", includes mounting kit and manual";
+            this.quantity = 1 + id % 50;
+            this.status = id % 3 == 0 ? "SHIPPED" : "OPEN";
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.OutputConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures a document of many small tables written to a file on the local disk through an unbuffered
+ * {@link FileOutputStream}, a {@link BufferedOutputStream} and {@link PdfWrapper#fromPath}.
+ * <p>
+ * The first rounds warm up every variant and are not measured. Each round starts with the next variant, so no variant
+ * always runs first or after the same one, and the best and the median times of each variant are reported.
+ */
+public class ChannelOutputBenchmark {
+    private static final int TABLES = 5_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 8;
+
+    public static void main(String[] args) throws IOException {
+        var directory = Files.createTempDirectory("channel-output");
+        var file = directory.resolve("tables.pdf");
+        var variants = List.of(
+                new Variant("unbuffered", () -> new PdfWrapper(new FileOutputStream(file.toFile()), new PageConfiguration())),
+                new Variant("buffered 8 KiB", () -> new PdfWrapper(new BufferedOutputStream(new FileOutputStream(file.toFile())), new PageConfiguration())),
+                new Variant("channel", () -> PdfWrapper.fromPath(file)),
+                new Variant("channel 1 MiB", () -> PdfWrapper.fromPath(
+                        file,
+                        new PageConfiguration(),
+                        new OutputConfiguration().withBufferSize(1024 * 1024).withPreallocateBytes(16 * 1024 * 1024)
+                ))
+        );
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                for (int i = 0; i < variants.size(); i++) {
+                    var variant = variants.get((round + i) % variants.size());
+                    var elapsed = run(variant.factory);
+                    variant.size = Files.size(file);
+                    if (round >= WARMUP_ROUNDS) {
+                        variant.times[round - WARMUP_ROUNDS] = elapsed;
+                    }
+                }
+            }
+            for (Variant variant : variants) {
+                Arrays.sort(variant.times);
+                System.out.printf(
+                        "%-15s best %,6d ms, median %,6d ms, %,6d KiB%n",
+                        variant.name,
+                        variant.times[0] / 1_000_000,
+                        variant.times[ROUNDS / 2] / 1_000_000,
+                        variant.size / 1024
+                );
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    private interface WrapperFactory {
+        PdfWrapper create() throws IOException;
+    }
+
+    private static final class Variant {
+        private final String name;
+        private final WrapperFactory factory;
+        private final long[] times = new long[ROUNDS];
+        private long size;
+
+        private Variant(String name, WrapperFactory factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+    }
+
+    private static long run(WrapperFactory factory) throws IOException {
+        var start = System.nanoTime();
+        try (var wrapper = factory.create()) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true).open();
+            var editor = wrapper.toEditor();
+            for (int i = 0; i < TABLES; i++) {
+                var row = i;
+                editor.addTable(3, table -> table
+                        .add(new SimpleParagraph("Item " + row))
+                        .add(new SimpleParagraph("Quantity " + row % 10))
+                        .add(new SimpleParagraph("Price " + row * 3)));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import dev.lucasmendes.simple_pdf.elements.CsvSource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Compares reading a CSV file into objects before creating a table with reading it through {@link CsvSource}.
+ * <p>
+ * The "objects" run emulates the previous approach: every line is read with a {@link java.io.BufferedReader}, split
+ * and kept in a list, and then the fields are read as the cells of the table. The "csv source" run reads the same
+ * fields from the memory-mapped file. Both report the time and the bytes allocated by the thread.
+ */
+public class CsvSourceBenchmark {
+    private static final int ROWS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        var path = Files.createTempFile("benchmark", ".csv");
+        try {
+            try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writer.write("id,first_name,last_name,position,salary\n");
+                for (int i = 0; i < ROWS; i++) {
+                    writer.write(i + ",First " + i + ",Last " + i + ",\"Developer, level " + (i % 5) + "\"," + (i * 3 % 10_000) + ".50\n");
+                }
+            }
+            System.out.printf("file: %.1f MiB, %,d rows%n", Files.size(path) / 1048576.0, ROWS);
+            for (int i = 0; i < 3; i++) {
+                run("objects", () -> readObjects(path));
+                run("csv source", () -> readCsvSource(path));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static long readObjects(Path path) throws IOException {
+        var rows = new ArrayList<String[]>();
+        try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rows.add(line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"));
+            }
+        }
+        long sink = 0;
+        for (String[] row : rows) {
+            for (String field : row) {
+                sink += field.length();
+            }
+        }
+        return sink;
+    }
+
+    private static long readCsvSource(Path path) {
+        var source = CsvSource.of(path);
+        var columns = source.getColumns();
+        long sink = 0;
+        for (CsvSource.Row row : source) {
+            for (var column : columns) {
+                sink += column.extract(row).length();
+            }
+        }
+        return sink;
+    }
+
+    private static void run(String name, Reader reader) throws IOException {
+        System.gc();
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        var sink = reader.read();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        System.out.printf(
+                "%-10s %,10.0f rows/s, %6.1f bytes/row (%d)%n",
+                name,
+                ROWS / (elapsed / 1e9),
+                (double) allocated / ROWS,
+                sink & 1
+        );
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        long read() throws IOException;
+    }
+}
@@ -0,0 +1,79 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.Employee;
+import dev.lucasmendes.simple_pdf.EmployeeService;
+import dev.lucasmendes.simple_pdf.annotations.PdfAnnotationsProcessor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.elements.DataTable;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how many rows per second a {@link DataTable} of {@link Employee} can generate.
+ * <p>
+ * The "reflection" run emulates the previous extraction path (one {@link Field#get} per cell),
+ * the "column plan" run uses the accessors cached per class and the "parallel" run also creates the cells
+ * on the common fork join pool.
+ */
+public class DataTableBenchmark {
+    private static final int ROWS = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        var employees = new EmployeeService(ROWS).getEmployees();
+        var pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(8f));
+
+        var reflection = reflectionExtractors();
+        run("reflection", () -> new DataTable<>(pdfCommons, employees, reflection, Employee.class).generateTable());
+        run("column plan", () -> new DataTable<>(pdfCommons, employees, Employee.class).generateTable());
+        run("parallel", () -> DataTable.<Employee>builder()
+                .pdfCommons(pdfCommons)
+                .style(pdfCommons.getDefaultDataTableStyle())
+                .items(employees)
+                .objectClass(Employee.class)
+                .parallel()
+                .build()
+                .generateTable());
+    }
+
+    private static void run(String name, Runnable generate) {
+        generate.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            generate.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-12s %,12.0f rows/s%n", name, ROWS / (best / 1e9));
+    }
+
+    /**
+     * Builds extractors that read every field the way {@link DataTable} used to: resolving the field
+     * accessibility and wrapping the value in an {@link Optional} for every cell.
+     */
+    private static Map<String, Function<Employee, String>> reflectionExtractors() {
+        List<Field> fields = Arrays.stream(Employee.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .filter(field -> !PdfAnnotationsProcessor.ignore(field))
+                .collect(Collectors.toList());
+        return fields.stream().collect(Collectors.toMap(Field::getName, field -> item -> {
+            field.setAccessible(true);
+            try {
+                return Optional.ofNullable(field.get(item)).map(Object::toString).orElse("NULL");
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }));
+    }
+}
@@ -0,0 +1,75 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.DataTableStyle;
+import dev.lucasmendes.simple_pdf.configurations.SimpleCellStyle;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.elements.SimpleTableCell;
+import dev.lucasmendes.simple_pdf.enums.FontStyle;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import dev.lucasmendes.simple_pdf.models.Edges;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the default {@link DataTableStyle} to style a row of six cells.
+ * <p>
+ * The "per cell" run emulates the previous default style, which created the cell styles, the colors and
+ * the header font for every cell. The "flyweights" run uses {@link DataTableStyle#defaults(SimpleFont)}.
+ */
+public class DataTableStyleBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final int COLUMNS = 6;
+
+    public static void main(String[] args) {
+        var font = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(8f);
+        var perCell = new DataTableStyle(
+                title -> new SimpleTableCell<>(
+                        new SimpleParagraph(title, font.withStyle(FontStyle.BOLD).withIncreaseSize(2f)),
+                        new SimpleCellStyle(Color.LIGHT_GRAY, Edges.all(5f))
+                ),
+                cellInfo -> {
+                    var evenStyle = new SimpleCellStyle(Color.WHITE, Edges.all(2));
+                    var oddStyle = evenStyle.withBackgroundColor(new Color(230, 230, 230));
+                    return new SimpleTableCell<>(
+                            new SimpleParagraph(cellInfo.getRowData(), font).withVerticalAlignment(VerticalAlignment.MIDDLE),
+                            cellInfo.getRowIndex() % 2 == 0 ? evenStyle : oddStyle
+                    );
+                }
+        );
+        var flyweights = DataTableStyle.defaults(font);
+
+        for (int i = 0; i < 3; i++) {
+            run("per cell", perCell);
+            run("flyweights", flyweights);
+        }
+    }
+
+    private static void run(String name, DataTableStyle style) {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().getId();
+        var sink = 0;
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int column = 0; column < COLUMNS; column++) {
+            sink += style.getHeaderRowCellStyle().apply("Header").hashCode();
+        }
+        for (int row = 0; row < ROWS; row++) {
+            var rowInfo = new DataTableStyle.CellInfo("", row);
+            for (int column = 0; column < COLUMNS; column++) {
+                sink += System.identityHashCode(style.getBodyRowCellStyle().apply(rowInfo.withRowData("value")));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        System.out.printf(
+                "%-10s %6.1f bytes/row, %6.1f ns/row (%d)%n",
+                name,
+                (double) allocated / ROWS,
+                (double) elapsed / ROWS,
+                sink & 1
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+
+import java.io.OutputStream;
+import java.nio.file.Paths;
+
+/**
+ * Measures the paragraphs written per second with one font and with a fallback chain, for Latin names and for
+ * names mixed with Cyrillic.
+ */
+public class FontFallbackBenchmark {
+    private static final int PARAGRAPHS = 100_000;
+    private static final String LATIN = "Ivan Petrov, Maria Silva, John Smith";
+    private static final String MIXED = "Ivan Petrov, \u0418\u0432\u0430\u043d \u041f\u0435\u0442\u0440\u043e\u0432, John Smith";
+
+    public static void main(String[] args) throws Exception {
+        var roboto = SimpleFont.fromFile(Paths.get(ClassLoader.getSystemResource("fonts/Roboto-Regular.ttf").toURI()));
+        for (int round = 0; round < 5; round++) {
+            run("single font, Latin", LATIN, null);
+            run("fallback, Latin", LATIN, roboto);
+            run("fallback, mixed", MIXED, roboto);
+        }
+    }
+
+    private static void run(String name, String text, SimpleFont fallback) {
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(OutputStream.nullOutputStream(), new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true);
+            if (fallback != null) {
+                wrapper.registerFallbackFont(fallback);
+            }
+            var editor = wrapper.open().toEditor();
+            for (int i = 0; i < PARAGRAPHS; i++) {
+                editor.add(new SimpleParagraph(text));
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-20s %,10.0f paragraphs/s%n", name, PARAGRAPHS * 1e9 / elapsed);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.FontCache;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.enums.EvictionPolicy;
+import dev.lucasmendes.simple_pdf.enums.FontLoading;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the heap retained by the fonts loaded with each {@link FontLoading}.
+ * <p>
+ * The Roboto family of the example is loaded, and the used heap is sampled after a garbage collection, once with
+ * the fonts loaded and once after a document that embeds all of them was written.
+ * The mode can be given as the first argument, to measure it in a fresh JVM.
+ */
+public class FontLoadingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var fonts = fontFiles();
+        var totalSize = 0L;
+        for (Path font : fonts) {
+            totalSize += Files.size(font);
+        }
+        System.out.printf("%d fonts, %,d KiB of files%n", fonts.size(), totalSize / 1024);
+        // each mode should be measured in its own JVM, the fonts of a run can be retained by OpenPDF until the next
+        var modes = args.length == 0 ? FontLoading.values() : new FontLoading[]{FontLoading.valueOf(args[0])};
+        for (FontLoading loading : modes) {
+            run(loading, fonts);
+        }
+    }
+
+    private static List<Path> fontFiles() throws URISyntaxException, IOException {
+        var directory = Paths.get(ClassLoader.getSystemResource("fonts").toURI());
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".ttf")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void run(FontLoading loading, List<Path> fontFiles) throws IOException {
+        var before = usedHeap();
+        var cache = new FontCache(fontFiles.size(), EvictionPolicy.LEAST_RECENTLY_USED);
+        var fonts = new ArrayList<BaseFont>();
+        for (Path fontFile : fontFiles) {
+            fonts.add(cache.get(fontFile, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, loading));
+        }
+        var loaded = usedHeap();
+
+        try (var wrapper = new PdfWrapper(OutputStream.nullOutputStream(), new PageConfiguration())) {
+            var editor = wrapper.open().toEditor();
+            for (BaseFont font : fonts) {
+                editor.add(new SimpleParagraph("The quick brown fox jumps over the lazy dog", new SimpleFont(new Font(font, 12))));
+            }
+        }
+        var written = usedHeap();
+
+        System.out.printf(
+                "%-14s loaded: %,6d KiB/font, after writing: %,6d KiB/font (%d)%n",
+                loading,
+                (loaded - before) / fonts.size() / 1024,
+                (written - before) / fonts.size() / 1024,
+                fonts.size()
+        );
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
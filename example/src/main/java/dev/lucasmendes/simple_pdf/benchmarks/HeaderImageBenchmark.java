@@ -0,0 +1,69 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.ImageCache;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Measures the size of a report with the logo of the example in the header of every page, with the global
+ * {@link ImageCache} and with a cache too small to keep the logo.
+ */
+public class HeaderImageBenchmark {
+    private static final int PAGES = 300;
+
+    public static void main(String[] args) throws IOException {
+        run("cache", new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES));
+        run("no cache", new ImageCache(1));
+    }
+
+    private static void run(String name, ImageCache cache) throws IOException {
+        ImageCache.setGlobal(cache);
+        var logoUrl = ClassLoader.getSystemResource("images/simple_pdf_logo.png");
+        var output = new ByteArrayOutputStream();
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.setHeaderEvent(editor -> editor.addTable(1, table -> table.add(new PdfImage(logoUrl).withSize(40, 40))))
+                    .registerEvents()
+                    .registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                    .open();
+            var editor = wrapper.toEditor();
+            for (int page = 0; page < PAGES; page++) {
+                if (page > 0) {
+                    editor.newPage();
+                }
+                editor.add(new SimpleParagraph("Page " + (page + 1)));
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf(
+                "%-9s %d pages, %,6d ms, %,8d KiB, %d image objects%n",
+                name,
+                PAGES,
+                elapsed / 1_000_000,
+                output.size() / 1024,
+                countImages(output.toByteArray())
+        );
+    }
+
+    private static int countImages(byte[] pdf) throws IOException {
+        var reader = new PdfReader(pdf);
+        var images = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream() && PdfName.IMAGE.equals(((PdfStream) object).get(PdfName.SUBTYPE))) {
+                images++;
+            }
+        }
+        return images;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+
+/**
+ * Measures a report with a header of a logo, a title and the number of the page, built on every page by
+ * {@link PdfWrapper#setHeaderEvent} and laid out once by {@link PdfWrapper#setHeaderTemplate}.
+ */
+public class HeaderTemplateBenchmark {
+    private static final int PAGES = 300;
+    private static final String TITLE = "Quarterly report of the sales by region";
+
+    public static void main(String[] args) {
+        var logoUrl = ClassLoader.getSystemResource("images/simple_pdf_logo.png");
+        for (int round = 0; round < 3; round++) {
+            run("event", logoUrl, false);
+            run("template", logoUrl, true);
+        }
+    }
+
+    private static void run(String name, URL logoUrl, boolean template) {
+        var output = new ByteArrayOutputStream();
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true);
+            if (template) {
+                wrapper.setHeaderTemplate(editor -> editor.addTable(new float[]{1, 4, 1}, table -> table
+                        .add(new PdfImage(logoUrl).withSize(40, 40))
+                        .add(new SimpleParagraph(TITLE))
+                        .add(editor.slot(page -> "Page " + page).withHorizontalAlignment(HorizontalAlignment.RIGHT))));
+            } else {
+                wrapper.setHeaderEvent(editor -> editor.addTable(new float[]{1, 4, 1}, table -> table
+                        .add(new PdfImage(logoUrl).withSize(40, 40))
+                        .add(new SimpleParagraph(TITLE))
+                        .add(new SimpleParagraph("Page " + editor.getWriter().getPageNumber())
+                                .withHorizontalAlignment(HorizontalAlignment.RIGHT))));
+            }
+            wrapper.registerEvents().open();
+            var editor = wrapper.toEditor();
+            for (int page = 0; page < PAGES; page++) {
+                if (page > 0) {
+                    editor.newPage();
+                }
+                editor.add(new SimpleParagraph("Body of page " + (page + 1)));
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-9s %d pages, %,6d ms, %,6d KiB%n", name, PAGES, elapsed / 1_000_000, output.size() / 1024);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.ImageCache;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Measures a document with the logo of the example in every row of a table, with the global {@link ImageCache} and
+ * with a cache too small to keep the logo, where it is decoded for every row.
+ */
+public class ImageCacheBenchmark {
+    private static final int ROWS = 200;
+
+    public static void main(String[] args) {
+        for (int round = 0; round < 3; round++) {
+            run("no cache", new ImageCache(1));
+            run("cache", new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES));
+        }
+    }
+
+    private static void run(String name, ImageCache cache) {
+        ImageCache.setGlobal(cache);
+        var logoUrl = ClassLoader.getSystemResource("images/simple_pdf_logo.png");
+        var output = new ByteArrayOutputStream();
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.open().toEditor().addTable(1, tableEditor -> {
+                for (int i = 0; i < ROWS; i++) {
+                    tableEditor.add(new PdfImage(logoUrl).withSize(40, 40));
+                }
+            });
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-9s %,6d ms, %,8d KiB (%s)%n", name, elapsed / 1_000_000, output.size() / 1024, cache);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import dev.lucasmendes.simple_pdf.configurations.ImageCompression;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.ImageCache;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Random;
+
+/**
+ * Measures the size and the time of a document with 12 distinct images in 40x40 points cells, written as they are read
+ * and resampled to 150 dpi, for 12 megapixel photos and for the logo of the example.
+ */
+public class ImageCompressionBenchmark {
+    private static final int IMAGES = 12;
+
+    public static void main(String[] args) throws IOException {
+        var photos = new URL[IMAGES];
+        var logos = new URL[IMAGES];
+        for (int i = 0; i < IMAGES; i++) {
+            photos[i] = photo(i);
+            logos[i] = ClassLoader.getSystemResource("images/simple_pdf_logo.png");
+        }
+        for (int round = 0; round < 2; round++) {
+            run("photo, original", photos, null);
+            run("photo, JPEG 150 dpi", photos, ImageCompression.jpeg(150, 0.8f));
+            run("photo, Flate 150 dpi", photos, ImageCompression.flate(150));
+            run("logo, original", logos, null);
+            run("logo, JPEG 150 dpi", logos, ImageCompression.jpeg(150, 0.8f));
+        }
+    }
+
+    private static void run(String name, URL[] images, ImageCompression compression) {
+        ImageCache.setGlobal(new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES));
+        var output = new ByteArrayOutputStream();
+        var start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.setImageCompression(compression).open().toEditor().addTable(4, table -> {
+                for (URL image : images) {
+                    table.add(new PdfImage(image).withSize(40, 40));
+                }
+            });
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-22s %,6d ms, %,8d KiB%n", name, elapsed / 1_000_000, output.size() / 1024);
+    }
+
+    /**
+     * Creates a 4000x3000 JPEG with smooth gradients and sensor-like noise.
+     */
+    private static URL photo(int seed) throws IOException {
+        var random = new Random(seed);
+        var image = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                var red = (x * 255 / image.getWidth() + random.nextInt(24)) & 0xff;
+                var green = (y * 255 / image.getHeight() + random.nextInt(24)) & 0xff;
+                var blue = ((x + y + seed * 300) / 30 % 256 + random.nextInt(24)) & 0xff;
+                image.setRGB(x, y, red << 16 | green << 8 | blue);
+            }
+        }
+        var file = File.createTempFile("photo", ".jpg");
+        file.deleteOnExit();
+        ImageIO.write(image, "jpeg", file);
+        return file.toURI().toURL();
+    }
+}
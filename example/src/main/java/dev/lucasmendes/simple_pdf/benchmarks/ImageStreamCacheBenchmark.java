@@ -0,0 +1,74 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.ImageCache;
+import dev.lucasmendes.simple_pdf.elements.ImageStreamCache;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Measures the catalogs written per second with 24 distinct transparent PNG images, decoded for every catalog like in
+ * a new process, with and without an {@link ImageStreamCache}.
+ */
+public class ImageStreamCacheBenchmark {
+    private static final int IMAGES = 24;
+    private static final int CATALOGS = 10;
+
+    public static void main(String[] args) throws IOException {
+        var images = new byte[IMAGES][];
+        for (int i = 0; i < IMAGES; i++) {
+            images[i] = productPng(i);
+        }
+        var directory = Files.createTempDirectory("images");
+        for (int round = 0; round < 3; round++) {
+            run("decoded", images, null);
+            run("disk cache", images, new ImageStreamCache(directory));
+        }
+    }
+
+    private static void run(String name, byte[][] images, ImageStreamCache diskCache) {
+        ImageStreamCache.setGlobal(diskCache);
+        var size = 0;
+        var start = System.nanoTime();
+        for (int catalog = 0; catalog < CATALOGS; catalog++) {
+            ImageCache.global().clear();
+            var output = new ByteArrayOutputStream();
+            try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+                wrapper.open().toEditor().addTable(4, table -> {
+                    for (byte[] image : images) {
+                        table.add(PdfImage.fromBytes(image).withSize(120, 120));
+                    }
+                });
+            }
+            size = output.size();
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-11s %,6.1f catalogs/s, %,6d KiB (%s)%n", name, CATALOGS * 1e9 / elapsed, size / 1024, diskCache);
+    }
+
+    /**
+     * Creates a 800x800 product photo with a transparent background.
+     */
+    private static byte[] productPng(int seed) throws IOException {
+        var image = new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB);
+        var graphics = image.createGraphics();
+        try {
+            for (int i = 0; i < 40; i++) {
+                graphics.setColor(new Color((seed * 37 + i * 11) % 256, (i * 23) % 256, (seed * 13 + i * 7) % 256, 255 - i * 4));
+                graphics.fillOval(100 + i * 5, 100 + i * 3, 600 - i * 10, 600 - i * 6);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageNumbering;
+import dev.lucasmendes.simple_pdf.configurations.Watermark;
+import dev.lucasmendes.simple_pdf.core.PageEventPipeline;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+
+import java.io.OutputStream;
+
+/**
+ * Measures the time spent in each stage of the page events of a report with a header, a watermark, a footer and the
+ * numbers of the pages.
+ */
+public class PageEventPipelineBenchmark {
+    private static final int PARAGRAPHS = 20_000;
+
+    public static void main(String[] args) {
+        var logoUrl = ClassLoader.getSystemResource("images/simple_pdf_logo.png");
+        for (int round = 0; round < 3; round++) {
+            var start = System.nanoTime();
+            int pages;
+            PageEventPipeline pipeline;
+            try (var wrapper = new PdfWrapper(OutputStream.nullOutputStream(), new PageConfiguration())) {
+                wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                        .setHeaderTemplate(editor -> editor.addTable(new float[]{1, 5}, table -> table
+                                .add(new PdfImage(logoUrl).withSize(40, 40))
+                                .add(new SimpleParagraph("Quarterly report"))))
+                        .setWatermark(Watermark.of("DRAFT"))
+                        .setFooterTemplate(editor -> editor.add(new SimpleParagraph("Confidential")))
+                        .setPageNumbering(new PageNumbering())
+                        .registerEvents()
+                        .open();
+                var editor = wrapper.toEditor();
+                for (int i = 0; i < PARAGRAPHS; i++) {
+                    editor.add(new SimpleParagraph("Line " + i + " of the report"));
+                }
+                pages = wrapper.getWriter().getPageNumber();
+                pipeline = wrapper.getPageEvents();
+            }
+            var elapsed = System.nanoTime() - start;
+            System.out.printf("%,d pages, %,d ms%n", pages, elapsed / 1_000_000);
+            for (PageEventPipeline.StageTiming timing : pipeline.getTimings()) {
+                System.out.printf(
+                        "  %-16s %,8d calls, %,8.1f ms, %,6.1f us/page%n",
+                        timing.getName(),
+                        timing.getCalls(),
+                        timing.getNanos() / 1e6,
+                        timing.getNanos() / 1e3 / pages
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageNumbering;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Measures a report with "Page X of Y" on every page, written twice to count the pages first, and written once with
+ * the total filled when the document is closed.
+ */
+public class PageNumberingBenchmark {
+    private static final int PARAGRAPHS = 20_000;
+
+    public static void main(String[] args) {
+        for (int round = 0; round < 3; round++) {
+            var start = System.nanoTime();
+            var total = write(OutputStream.nullOutputStream(), PageNumbering.of("Page " + PageNumbering.PAGE));
+            var output = new ByteArrayOutputStream();
+            write(output, PageNumbering.of("Page " + PageNumbering.PAGE + " of " + total));
+            print("two passes", start, total, output);
+
+            start = System.nanoTime();
+            output = new ByteArrayOutputStream();
+            total = write(output, new PageNumbering());
+            print("one pass", start, total, output);
+        }
+    }
+
+    private static int write(OutputStream output, PageNumbering numbering) {
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                    .setPageNumbering(numbering)
+                    .registerEvents()
+                    .open();
+            var editor = wrapper.toEditor();
+            for (int i = 0; i < PARAGRAPHS; i++) {
+                editor.add(new SimpleParagraph("Line " + i + " of the report"));
+            }
+            return wrapper.getWriter().getPageNumber();
+        }
+    }
+
+    private static void print(String name, long start, int pages, ByteArrayOutputStream output) {
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-10s %,d pages, %,6d ms, %,6d KiB%n", name, pages, elapsed / 1_000_000, output.size() / 1024);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.Employee;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the heap used while a {@link dev.lucasmendes.simple_pdf.elements.StreamingDataTable} is written.
+ * The used heap is sampled after a garbage collection every 10k rows, so it should not grow with the number
+ * of rows.
+ */
+public class StreamingDataTableBenchmark {
+    private static final int SAMPLE_EVERY = 10_000;
+
+    public static void main(String[] args) {
+        for (int rows : new int[]{10_000, 100_000, 1_000_000}) {
+            run(rows);
+        }
+    }
+
+    private static void run(int rows) {
+        var peak = new long[]{0};
+        var employees = Stream.iterate(1, id -> id + 1)
+                .limit(rows)
+                .map(id -> {
+                    if (id % SAMPLE_EVERY == 0) {
+                        peak[0] = Math.max(peak[0], usedHeap());
+                    }
+                    return new Employee(id, "João", "Silva", "Analista", id % 2 == 0, 1000.0);
+                });
+
+        long start = System.nanoTime();
+        try (var wrapper = new PdfWrapper(OutputStream.nullOutputStream(), new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(8f), true)
+                    .open()
+                    .toEditor()
+                    .<Employee>addStreamingDataTable(builder -> builder
+                            .items(employees)
+                            .objectClass(Employee.class));
+        }
+        System.out.printf(
+                "%,10d rows: %6.2f s, peak used heap %,6d KiB%n",
+                rows,
+                (System.nanoTime() - start) / 1e9,
+                peak[0] / 1024
+        );
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.lucasmendes.simple_pdf.benchmarks;
+
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+
+import java.nio.file.Paths;
+
+/**
+ * Measures the texts measured per second by {@link SimpleFont#measure(CharSequence)}, against
+ * {@link com.lowagie.text.pdf.BaseFont#getWidthPoint(String, float)}.
+ */
+public class TextMeasureBenchmark {
+    private static final int ITERATIONS = 2_000_000;
+    private static final String[] TEXTS = {
+            "Ivan Petrov",
+            "Maria da Silva Fernandes",
+            "The quick brown fox jumps over the lazy dog",
+            "Fran\u00e7ois M\u00fcller",
+    };
+
+    public static void main(String[] args) throws Exception {
+        var font = SimpleFont.fromFile(Paths.get(ClassLoader.getSystemResource("fonts/Roboto-Regular.ttf").toURI())).withSize(10f);
+        var baseFont = font.getOpenPdfFont().getBaseFont();
+        for (int round = 0; round < 5; round++) {
+            var start = System.nanoTime();
+            var total = 0f;
+            for (int i = 0; i < ITERATIONS; i++) {
+                total += baseFont.getWidthPoint(TEXTS[i & 3], 10f);
+            }
+            report("BaseFont.getWidthPoint", start, total);
+
+            start = System.nanoTime();
+            total = 0f;
+            for (int i = 0; i < ITERATIONS; i++) {
+                total += font.measure(TEXTS[i & 3]);
+            }
+            report("SimpleFont.measure", start, total);
+        }
+    }
+
+    private static void report(String name, long start, float total) {
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%-24s %,12.0f texts/s (%.0f)%n", name, ITERATIONS * 1e9 / elapsed, total);
+    }
+}
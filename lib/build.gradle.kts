@@ -20,6 +20,7 @@ dependencies {
     implementation("org.apache.commons:commons-lang3:3.13.0")
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.9.3")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.9.3")
+    testRuntimeOnly("com.h2database:h2:2.2.224")
 }
 
 java {
@@ -3,10 +3,7 @@ package dev.lucasmendes.simple_pdf.annotations;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 /**
  * This class is used to process annotations in a PDF document.
@@ -45,7 +42,18 @@ public class PdfAnnotationsProcessor {
      * @return the formatted name of the field
      */
     private static String formatFieldName(Field field) {
-        return splitCamelCase(field.getName());
+        return formatName(field.getName());
+    }
+
+    /**
+     * Formats a field name by splitting it into separate words, as used in the header of the tables.
+     * The first word is capitalized, and the rest are in lower case.
+     *
+     * @param fieldName the name of the field
+     * @return the formatted name
+     */
+    public static String formatName(String fieldName) {
+        return splitCamelCase(fieldName);
     }
 
     /**
@@ -56,16 +64,15 @@ public class PdfAnnotationsProcessor {
      * @return the split string
      */
     private static String splitCamelCase(String value) {
-        final var firstFlag = new AtomicBoolean(true);
-        return Arrays.stream(StringUtils.splitByCharacterTypeCamelCase(value))
-                .map(str -> {
-                    str = str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
-                    if (firstFlag.get()) {
-                        firstFlag.set(false);
-                        return str;
-                    }
-                    return str.toLowerCase();
-                })
-                .collect(Collectors.joining(" "));
+        var words = StringUtils.splitByCharacterTypeCamelCase(value);
+        var result = new StringBuilder(value.length() + words.length);
+        for (int i = 0; i < words.length; i++) {
+            if (i == 0) {
+                result.append(words[i].substring(0, 1).toUpperCase()).append(words[i].substring(1).toLowerCase());
+            } else {
+                result.append(' ').append(words[i].toLowerCase());
+            }
+        }
+        return result.toString();
     }
 }
@@ -0,0 +1,57 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+/**
+ * This class represents the configuration of the widths of the columns of a data table computed from their content.
+ * <p>
+ * The header and the texts of a sample of rows, spread over the whole table, are measured with the fonts of their
+ * cells, and the widest text of each column is clamped between the minimum and the maximum width. The widths are
+ * then fitted to the width of the table: every column has at least the minimum width, the rest of the table is
+ * shared in proportion to the widths, and no column is wider than the maximum width, so a table whose columns all
+ * reach it is narrower than the page.
+ */
+@Data
+@With
+@AllArgsConstructor
+public class AutoColumnWidths {
+    /**
+     * The default number of rows measured.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 200;
+    /**
+     * The default minimum width of a column, in points.
+     */
+    public static final float DEFAULT_MINIMUM_WIDTH = 30f;
+
+    /**
+     * The number of rows measured, or 0 to measure all the rows.
+     */
+    private final int sampleSize;
+    /**
+     * The minimum width of a column, in points.
+     */
+    private final float minimumWidth;
+    /**
+     * The maximum width of a column, in points.
+     */
+    private final float maximumWidth;
+
+    /**
+     * Creates the configuration with the default sample size and minimum width, and no maximum width.
+     */
+    public AutoColumnWidths() {
+        this(DEFAULT_SAMPLE_SIZE, DEFAULT_MINIMUM_WIDTH, Float.MAX_VALUE);
+    }
+
+    /**
+     * Creates the configuration that measures all the rows.
+     *
+     * @return the configuration
+     */
+    public static AutoColumnWidths allRows() {
+        return new AutoColumnWidths().withSampleSize(0);
+    }
+}
@@ -4,6 +4,7 @@ import dev.lucasmendes.simple_pdf.elements.SimpleFont;
 import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
 import dev.lucasmendes.simple_pdf.elements.SimpleTableCell;
 import dev.lucasmendes.simple_pdf.enums.FontStyle;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
 import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
 import dev.lucasmendes.simple_pdf.models.Edges;
 import lombok.Data;
@@ -21,17 +22,30 @@ public class DataTableStyle {
     private final Function<String, SimpleTableCell<?>> headerRowCellStyle;
     private final Function<CellInfo, SimpleTableCell<?>> bodyRowCellStyle;
 
+    /**
+     * The style of the cells of the default header.
+     */
+    private static final SimpleCellStyle DEFAULT_HEADER_STYLE = new SimpleCellStyle(Color.LIGHT_GRAY, Edges.all(5f));
+
+    /**
+     * The style of the cells of the even rows of the default body.
+     */
+    private static final SimpleCellStyle DEFAULT_EVEN_ROW_STYLE = new SimpleCellStyle(Color.WHITE, Edges.all(2));
+
+    /**
+     * The style of the cells of the odd rows of the default body.
+     */
+    private static final SimpleCellStyle DEFAULT_ODD_ROW_STYLE = DEFAULT_EVEN_ROW_STYLE.withBackgroundColor(new Color(230, 230, 230));
+
     /**
      * This method is used to create the default style for the table.
+     * The fonts and the cell styles are resolved once, when the style is created, and shared by every cell.
      *
      * @param defaultFont The default font to be used in the table.
      * @return The default style for the table.
      */
     public static DataTableStyle defaults(SimpleFont defaultFont) {
-        return new DataTableStyle(
-                title -> defaultHeaderRowCell(title, defaultFont),
-                cellInfo -> defaultBodyRowCell(cellInfo, defaultFont)
-        );
+        return new DataTableStyle(defaultHeaderRowCell(defaultFont), defaultBodyRowCell(defaultFont));
     }
 
     /**
@@ -45,10 +59,7 @@ public class DataTableStyle {
             SimpleFont defaultFont,
             Function<CellInfo, SimpleTableCell<?>> bodyRowCellStyle
     ) {
-        return new DataTableStyle(
-                title -> defaultHeaderRowCell(title, defaultFont),
-                bodyRowCellStyle
-        );
+        return new DataTableStyle(defaultHeaderRowCell(defaultFont), bodyRowCellStyle);
     }
 
     /**
@@ -62,39 +73,32 @@ public class DataTableStyle {
             SimpleFont defaultFont,
             Function<String, SimpleTableCell<?>> headerRowCellStyle
     ) {
-        return new DataTableStyle(
-                headerRowCellStyle,
-                cellInfo -> defaultBodyRowCell(cellInfo, defaultFont)
-        );
+        return new DataTableStyle(headerRowCellStyle, defaultBodyRowCell(defaultFont));
     }
 
     /**
-     * This method is used to create a style for the table with a custom style for the header and the body
+     * This method is used to create the default style for the header of the table.
+     * The bold font of the header is derived once, and not for every cell.
      *
-     * @param title The title of the column.
-     * @param font  The font to be used in the title.
+     * @param font The font to be used in the titles.
      * @return The default style for the header of the table.
      */
-    private static SimpleTableCell<?> defaultHeaderRowCell(String title, SimpleFont font) {
-        return new SimpleTableCell<>(
-                new SimpleParagraph(title, font.withStyle(FontStyle.BOLD).withIncreaseSize(2f)),
-                new SimpleCellStyle(Color.LIGHT_GRAY, Edges.all(5f))
-        );
+    private static Function<String, SimpleTableCell<?>> defaultHeaderRowCell(SimpleFont font) {
+        final var headerFont = font == null ? null : font.withStyle(FontStyle.BOLD).withIncreaseSize(2f);
+        return title -> new SimpleTableCell<>(new SimpleParagraph(title, headerFont), DEFAULT_HEADER_STYLE);
     }
 
     /**
-     * This method is used to create a style for the table with a custom style for the header and the body
+     * This method is used to create the default style for the body of the table.
+     * The style of each cell is looked up by the parity of its row, and not created for every cell.
      *
-     * @param cellInfo Contains information about the row.
-     * @param font     The font to be used in the row.
+     * @param font The font to be used in the rows.
      * @return The default style for the body of the table.
      */
-    private static SimpleTableCell<?> defaultBodyRowCell(CellInfo cellInfo, SimpleFont font) {
-        var evenStyle = new SimpleCellStyle(Color.WHITE, Edges.all(2));
-        var addStyle = evenStyle.withBackgroundColor(new Color(230, 230, 230));
-        return new SimpleTableCell<>(
-                new SimpleParagraph(cellInfo.rowData, font).withVerticalAlignment(VerticalAlignment.MIDDLE),
-                cellInfo.isEven() ? evenStyle : addStyle
+    private static Function<CellInfo, SimpleTableCell<?>> defaultBodyRowCell(SimpleFont font) {
+        return cellInfo -> new SimpleTableCell<>(
+                new SimpleParagraph(cellInfo.rowData, font, HorizontalAlignment.LEFT, VerticalAlignment.MIDDLE),
+                cellInfo.isEven() ? DEFAULT_EVEN_ROW_STYLE : DEFAULT_ODD_ROW_STYLE
         );
     }
 
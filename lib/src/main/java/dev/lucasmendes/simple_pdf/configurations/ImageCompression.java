@@ -0,0 +1,71 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import dev.lucasmendes.simple_pdf.enums.ImageEncoding;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+import javax.annotation.Nonnull;
+
+/**
+ * This class represents the configuration of the resampling of the images before they are written to the document.
+ * <p>
+ * An image with a size is resampled to the pixels it needs to be printed at the resolution, in dots per inch, in the
+ * size, and the resampled pixels are encoded again. Images that already have fewer pixels, and images without a size,
+ * are written as they are read.
+ */
+@Data
+@With
+@AllArgsConstructor
+public class ImageCompression {
+    /**
+     * The default resolution, in dots per inch.
+     */
+    public static final float DEFAULT_DPI = 150f;
+    /**
+     * The default quality of the JPEG encoding.
+     */
+    public static final float DEFAULT_JPEG_QUALITY = 0.8f;
+
+    /**
+     * The resolution of the images in their size, in dots per inch.
+     */
+    private final float dpi;
+    /**
+     * The encoding of the resampled pixels.
+     */
+    @Nonnull
+    private final ImageEncoding encoding;
+    /**
+     * The quality of the JPEG encoding, from 0 to 1.
+     */
+    private final float jpegQuality;
+
+    /**
+     * Creates the configuration that encodes the images as JPEG with the default resolution and quality.
+     */
+    public ImageCompression() {
+        this(DEFAULT_DPI, ImageEncoding.JPEG, DEFAULT_JPEG_QUALITY);
+    }
+
+    /**
+     * Creates the configuration that encodes the images as JPEG.
+     *
+     * @param dpi     the resolution of the images in their size
+     * @param quality the quality of the encoding, from 0 to 1
+     * @return the configuration
+     */
+    public static ImageCompression jpeg(float dpi, float quality) {
+        return new ImageCompression(dpi, ImageEncoding.JPEG, quality);
+    }
+
+    /**
+     * Creates the configuration that encodes the images without losses.
+     *
+     * @param dpi the resolution of the images in their size
+     * @return the configuration
+     */
+    public static ImageCompression flate(float dpi) {
+        return new ImageCompression(dpi, ImageEncoding.FLATE, DEFAULT_JPEG_QUALITY);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import dev.lucasmendes.simple_pdf.enums.FsyncPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+import javax.annotation.Nonnull;
+
+/**
+ * This class represents the configuration of the output of a document written to a channel, like a file.
+ * <p>
+ * The bytes are collected in a direct buffer and written to the channel when it is full, so the many small writes of
+ * a document become a few large ones.
+ */
+@Data
+@With
+@AllArgsConstructor
+public class OutputConfiguration {
+    /**
+     * The default size of the buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * The size of the buffer, in bytes.
+     */
+    private final int bufferSize;
+    /**
+     * The size a file is extended to before it is written, in bytes, or 0 to not extend it.
+     * The file is truncated to the written bytes when it is closed.
+     */
+    private final long preallocateBytes;
+    /**
+     * The moments the written bytes are forced to the storage device.
+     */
+    @Nonnull
+    private final FsyncPolicy fsyncPolicy;
+
+    /**
+     * Creates the configuration with the default buffer, without preallocation and without forcing the bytes.
+     */
+    public OutputConfiguration() {
+        this(DEFAULT_BUFFER_SIZE, 0, FsyncPolicy.NONE);
+    }
+}
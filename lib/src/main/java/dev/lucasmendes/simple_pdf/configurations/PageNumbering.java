@@ -0,0 +1,83 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * This class represents the configuration of the numbers of the pages, like "Page 3 of 12".
+ * <p>
+ * The format has the {@value #PAGE} and {@value #TOTAL} placeholders, each of them any number of times. The number of
+ * the page is written on each page when it ends, and the text from the first total on is a form filled when the
+ * document is closed, so the document is written in one pass. A left aligned text whose part from the first total on
+ * does not have the number of the page shares a single form with every page.
+ */
+@Data
+@With
+@AllArgsConstructor
+public class PageNumbering {
+    /**
+     * The placeholder of the number of the page.
+     */
+    public static final String PAGE = "{page}";
+    /**
+     * The placeholder of the number of pages of the document.
+     */
+    public static final String TOTAL = "{total}";
+    /**
+     * The default format.
+     */
+    public static final String DEFAULT_FORMAT = "Page " + PAGE + " of " + TOTAL;
+    /**
+     * The default distance between the margin and the text, in points.
+     */
+    public static final float DEFAULT_OFFSET = 18f;
+
+    /**
+     * The text of the numbers, with the {@value #PAGE} and {@value #TOTAL} placeholders.
+     */
+    @Nonnull
+    private final String format;
+    /**
+     * The alignment of the text between the left and the right margins.
+     */
+    @Nonnull
+    private final HorizontalAlignment horizontalAlignment;
+    /**
+     * The margin of the text: {@link VerticalAlignment#TOP} for the top margin, and any other for the bottom one.
+     */
+    @Nonnull
+    private final VerticalAlignment verticalAlignment;
+    /**
+     * The font of the text, or null to use the default font.
+     */
+    @Nullable
+    private final SimpleFont font;
+    /**
+     * The distance between the margin and the text, in points.
+     */
+    private final float offset;
+
+    /**
+     * Creates the configuration that writes "Page X of Y" at the center of the bottom margin, with the default font.
+     */
+    public PageNumbering() {
+        this(DEFAULT_FORMAT, HorizontalAlignment.CENTER, VerticalAlignment.BOTTOM, null, DEFAULT_OFFSET);
+    }
+
+    /**
+     * Creates the configuration that writes a format at the center of the bottom margin, with the default font.
+     *
+     * @param format the text of the numbers, with the {@value #PAGE} and {@value #TOTAL} placeholders
+     * @return the configuration
+     */
+    public static PageNumbering of(@Nonnull String format) {
+        return new PageNumbering().withFormat(format);
+    }
+}
@@ -1,8 +1,18 @@
 package dev.lucasmendes.simple_pdf.configurations;
 
+import dev.lucasmendes.simple_pdf.elements.FontFallbackChain;
+import dev.lucasmendes.simple_pdf.elements.ImageRegistry;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
 import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,13 +26,98 @@ public class PdfCommons {
      */
     private final List<SimpleFont> registeredFonts = new ArrayList<>();
 
+    /**
+     * The fonts used, in order, for the characters the font of a paragraph cannot display.
+     */
+    private final List<SimpleFont> fallbackFonts = new ArrayList<>();
+
     /**
      * The configuration for the pages in the PDF document.
      */
     private final PageConfiguration pageConfiguration;
 
+    /**
+     * The registry of the images of the PDF document, so each image is written once.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ImageRegistry imageRegistry = new ImageRegistry();
+
+    /**
+     * The resampling of the images that do not have their own, or null to write them as they are read.
+     */
+    @Nullable
+    private ImageCompression defaultImageCompression = null;
+
     /**
      * The default font to be used in the PDF document.
      */
     private SimpleFont defaultFont = null;
+
+    /**
+     * The default style of the data tables, resolved for {@link #defaultFont} and shared by every table.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private DataTableStyle defaultDataTableStyle = null;
+
+    /**
+     * The font the {@link #defaultDataTableStyle} was resolved for.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private SimpleFont defaultDataTableStyleFont = null;
+
+    /**
+     * Gets the default style of the data tables for the current default font.
+     * The style is created once and shared by every table, until the default font is changed.
+     *
+     * @return the default style of the data tables
+     */
+    public synchronized DataTableStyle getDefaultDataTableStyle() {
+        if (this.defaultDataTableStyle == null || this.defaultDataTableStyleFont != this.defaultFont) {
+            this.defaultDataTableStyle = DataTableStyle.defaults(this.defaultFont);
+            this.defaultDataTableStyleFont = this.defaultFont;
+        }
+        return this.defaultDataTableStyle;
+    }
+
+    /**
+     * Resolves an image for the PDF document, with the {@link #imageRegistry} and the
+     * {@link #defaultImageCompression} when it does not have its own.
+     *
+     * @param image the image
+     * @return the image bound to the PDF document
+     */
+    @Nonnull
+    public PdfImage resolveImage(@Nonnull PdfImage image) {
+        var resolved = image;
+        if (resolved.getRegistry() == null) {
+            resolved = resolved.withRegistry(this.imageRegistry);
+        }
+        if (resolved.getCompression() == null && this.defaultImageCompression != null) {
+            resolved = resolved.withCompression(this.defaultImageCompression);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the chain of a font with the {@link #fallbackFonts}.
+     * The chain is created for each call, sharing the fonts resolved for the characters with the other chains of the
+     * same base fonts.
+     *
+     * @param font the primary font
+     * @return the chain of the font, or null if there are no fallback fonts
+     */
+    @Nullable
+    public FontFallbackChain getFallbackChain(@Nonnull SimpleFont font) {
+        if (this.fallbackFonts.isEmpty()) {
+            return null;
+        }
+        return FontFallbackChain.of(font, this.fallbackFonts);
+    }
 }
@@ -1,5 +1,6 @@
 package dev.lucasmendes.simple_pdf.configurations;
 
+import dev.lucasmendes.simple_pdf.enums.TextOverflow;
 import dev.lucasmendes.simple_pdf.models.Edges;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,4 +19,13 @@ public class SimpleCellStyle {
     private final Color backgroundColor;
     @Nullable
     private final Edges padding;
+    /**
+     * The way a text that does not fit in the column is written, wrapped when null.
+     */
+    @Nullable
+    private final TextOverflow textOverflow;
+
+    public SimpleCellStyle(@Nullable Color backgroundColor, @Nullable Edges padding) {
+        this(backgroundColor, padding, null);
+    }
 }
@@ -0,0 +1,60 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * This class represents a text drawn under the content of every page, rotated at the center of the page, like
+ * "DRAFT" or "CONFIDENTIAL".
+ */
+@Data
+@With
+@AllArgsConstructor
+public class Watermark {
+    /**
+     * The size of the text without a font.
+     */
+    public static final float DEFAULT_SIZE = 60f;
+    /**
+     * The default rotation, in degrees.
+     */
+    public static final float DEFAULT_ROTATION = 45f;
+    /**
+     * The default opacity.
+     */
+    public static final float DEFAULT_OPACITY = 0.3f;
+
+    /**
+     * The text of the watermark.
+     */
+    @Nonnull
+    private final String text;
+    /**
+     * The font of the text, or null to use a light gray bold Helvetica of {@value #DEFAULT_SIZE} points.
+     */
+    @Nullable
+    private final SimpleFont font;
+    /**
+     * The counterclockwise rotation of the text, in degrees.
+     */
+    private final float rotation;
+    /**
+     * The opacity of the text, from 0 to 1.
+     */
+    private final float opacity;
+
+    /**
+     * Creates the watermark of a text with the default font, rotation and opacity.
+     *
+     * @param text the text of the watermark
+     * @return the watermark
+     */
+    public static Watermark of(@Nonnull String text) {
+        return new Watermark(text, null, DEFAULT_ROTATION, DEFAULT_OPACITY);
+    }
+}
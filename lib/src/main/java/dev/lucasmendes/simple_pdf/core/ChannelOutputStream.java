@@ -0,0 +1,132 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import dev.lucasmendes.simple_pdf.configurations.OutputConfiguration;
+import dev.lucasmendes.simple_pdf.enums.FsyncPolicy;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class is an output stream that collects the bytes in a direct buffer and writes them to a channel when it is
+ * full. Writes larger than the buffer go to the channel directly.
+ * <p>
+ * When the channel is a {@link FileChannel}, the file can be extended before it is written, and truncated to the
+ * written bytes when the stream is closed, and the bytes can be forced to the storage device following the
+ * {@link FsyncPolicy}. Closing the stream closes the channel.
+ */
+public class ChannelOutputStream extends OutputStream {
+    @Nonnull
+    private final WritableByteChannel channel;
+    @Nonnull
+    private final ByteBuffer buffer;
+    @Nonnull
+    private final FsyncPolicy fsyncPolicy;
+    private final long preallocatedBytes;
+    private boolean closed = false;
+
+    /**
+     * Creates the stream of a channel.
+     *
+     * @param channel       the channel, positioned where the bytes are written
+     * @param configuration the configuration of the buffer, the preallocation and the fsync policy
+     * @throws IOException if the file could not be extended
+     */
+    public ChannelOutputStream(@Nonnull WritableByteChannel channel, @Nonnull OutputConfiguration configuration) throws IOException {
+        if (configuration.getBufferSize() <= 0) {
+            throw new IllegalArgumentException("The size of the buffer must be positive: " + configuration.getBufferSize());
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(configuration.getBufferSize());
+        this.fsyncPolicy = configuration.getFsyncPolicy();
+        if (channel instanceof FileChannel && configuration.getPreallocateBytes() > ((FileChannel) channel).size()) {
+            // a byte at the end extends the file without moving the position of the channel
+            ((FileChannel) channel).write(ByteBuffer.allocate(1), configuration.getPreallocateBytes() - 1);
+            this.preallocatedBytes = configuration.getPreallocateBytes();
+        } else {
+            this.preallocatedBytes = 0;
+        }
+    }
+
+    /**
+     * Creates the stream of a channel with the default configuration.
+     *
+     * @param channel the channel, positioned where the bytes are written
+     * @throws IOException never, since the file is not extended
+     */
+    public ChannelOutputStream(@Nonnull WritableByteChannel channel) throws IOException {
+        this(channel, new OutputConfiguration());
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.ensureOpen();
+        if (!this.buffer.hasRemaining()) {
+            this.drain();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(@Nonnull byte[] b, int off, int len) throws IOException {
+        this.ensureOpen();
+        if (len > this.buffer.remaining()) {
+            this.drain();
+            if (len >= this.buffer.capacity()) {
+                writeFully(this.channel, ByteBuffer.wrap(b, off, len));
+                return;
+            }
+        }
+        this.buffer.put(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.drain();
+        if (this.fsyncPolicy == FsyncPolicy.ON_FLUSH && this.channel instanceof FileChannel) {
+            ((FileChannel) this.channel).force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try (var channel = this.channel) {
+            this.drain();
+            if (channel instanceof FileChannel) {
+                var file = (FileChannel) channel;
+                if (this.preallocatedBytes > 0 && file.position() < file.size()) {
+                    file.truncate(file.position());
+                }
+                if (this.fsyncPolicy != FsyncPolicy.NONE) {
+                    file.force(true);
+                }
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        writeFully(this.channel, this.buffer);
+        this.buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
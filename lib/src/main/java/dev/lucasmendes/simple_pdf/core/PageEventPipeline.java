@@ -0,0 +1,286 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfPageEvent;
+import com.lowagie.text.pdf.PdfWriter;
+import lombok.Data;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is the page event of a {@link PdfWrapper}, that forwards every event to its stages in order.
+ * <p>
+ * The stages are kept in an immutable state, replaced when they change, so an event is dispatched with a loop over
+ * its array, without creating objects. A dispatch reads the state once, so a stage that changes the pipeline while
+ * an event is dispatched does not affect that event. The pipeline counts the calls of each stage and the time spent
+ * in them, to find the decorations that slow the pages down.
+ */
+public final class PageEventPipeline implements PdfPageEvent {
+    /**
+     * The name of the stage of {@link PdfWrapper#setHeaderEvent}.
+     */
+    public static final String HEADER = "header";
+    /**
+     * The name of the stage of {@link PdfWrapper#setHeaderTemplate}.
+     */
+    public static final String HEADER_TEMPLATE = "header template";
+    /**
+     * The name of the stage of {@link PdfWrapper#setWatermark}.
+     */
+    public static final String WATERMARK = "watermark";
+    /**
+     * The name of the stage of {@link PdfWrapper#setFooterTemplate}.
+     */
+    public static final String FOOTER_TEMPLATE = "footer template";
+    /**
+     * The name of the stage of {@link PdfWrapper#setPageNumbering}.
+     */
+    public static final String PAGE_NUMBERING = "page numbering";
+
+    private State state = new State(new String[0], new PdfPageEvent[0], new Counter[0], new PdfPageEvent[0]);
+
+    /**
+     * This method is used to replace the stages of the pipeline.
+     * The stages keep the counters of the stages of the same names. The stages that are no longer in the pipeline
+     * still receive the closing of the document, so they can fill the forms they drew on the pages.
+     *
+     * @param stages The stages by their names, in the order of the iteration of the map.
+     */
+    public void setStages(@Nonnull Map<String, ? extends PdfPageEvent> stages) {
+        var current = this.state;
+        var names = stages.keySet().toArray(new String[0]);
+        var events = stages.values().toArray(new PdfPageEvent[0]);
+        var counters = new Counter[events.length];
+        for (int i = 0; i < names.length; i++) {
+            for (int j = 0; j < current.names.length; j++) {
+                if (current.names[j].equals(names[i])) {
+                    counters[i] = current.counters[j];
+                }
+            }
+            if (counters[i] == null) {
+                counters[i] = new Counter();
+            }
+        }
+        var retired = new ArrayList<PdfPageEvent>();
+        for (PdfPageEvent stage : current.retired) {
+            if (!containsIdentity(events, stage)) {
+                retired.add(stage);
+            }
+        }
+        for (PdfPageEvent stage : current.stages) {
+            if (!containsIdentity(events, stage)) {
+                retired.add(stage);
+            }
+        }
+        this.state = new State(names, events, counters, retired.toArray(new PdfPageEvent[0]));
+    }
+
+    private static boolean containsIdentity(PdfPageEvent[] stages, PdfPageEvent stage) {
+        for (PdfPageEvent candidate : stages) {
+            if (candidate == stage) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The names of the stages, in order.
+     */
+    @Nonnull
+    public List<String> getStageNames() {
+        return List.of(this.state.names);
+    }
+
+    /**
+     * This method is used to get the counters of the stages since they were set.
+     *
+     * @return The counters of the stages, in order.
+     */
+    @Nonnull
+    public List<StageTiming> getTimings() {
+        var state = this.state;
+        var timings = new ArrayList<StageTiming>(state.names.length);
+        for (int i = 0; i < state.names.length; i++) {
+            timings.add(new StageTiming(state.names[i], state.counters[i].calls, state.counters[i].nanos));
+        }
+        return timings;
+    }
+
+    @Override
+    public void onOpenDocument(PdfWriter writer, Document document) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onOpenDocument(writer, document);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onStartPage(PdfWriter writer, Document document) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onStartPage(writer, document);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onEndPage(writer, document);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onCloseDocument(PdfWriter writer, Document document) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onCloseDocument(writer, document);
+            state.counters[i].record(start);
+        }
+        for (PdfPageEvent stage : state.retired) {
+            stage.onCloseDocument(writer, document);
+        }
+    }
+
+    @Override
+    public void onParagraph(PdfWriter writer, Document document, float paragraphPosition) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onParagraph(writer, document, paragraphPosition);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onParagraphEnd(PdfWriter writer, Document document, float paragraphPosition) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onParagraphEnd(writer, document, paragraphPosition);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onChapter(PdfWriter writer, Document document, float paragraphPosition, Paragraph title) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onChapter(writer, document, paragraphPosition, title);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onChapterEnd(PdfWriter writer, Document document, float paragraphPosition) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onChapterEnd(writer, document, paragraphPosition);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onSection(PdfWriter writer, Document document, float paragraphPosition, int depth, Paragraph title) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onSection(writer, document, paragraphPosition, depth, title);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onSectionEnd(PdfWriter writer, Document document, float paragraphPosition) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onSectionEnd(writer, document, paragraphPosition);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public void onGenericTag(PdfWriter writer, Document document, Rectangle rect, String text) {
+        var state = this.state;
+        for (int i = 0; i < state.stages.length; i++) {
+            var start = System.nanoTime();
+            state.stages[i].onGenericTag(writer, document, rect, text);
+            state.counters[i].record(start);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageEventPipeline(timings=" + this.getTimings() + ")";
+    }
+
+    /**
+     * The stages of the pipeline with their counters, replaced as a whole when the stages change.
+     */
+    private static final class State {
+        private final String[] names;
+        private final PdfPageEvent[] stages;
+        private final Counter[] counters;
+        /**
+         * The stages removed from the pipeline, that still receive the closing of the document.
+         */
+        private final PdfPageEvent[] retired;
+
+        private State(String[] names, PdfPageEvent[] stages, Counter[] counters, PdfPageEvent[] retired) {
+            this.names = names;
+            this.stages = stages;
+            this.counters = counters;
+            this.retired = retired;
+        }
+    }
+
+    /**
+     * The counters of a stage, shared by the states that have a stage of its name, so the events dispatched while
+     * the stages change are counted too.
+     */
+    private static final class Counter {
+        private long calls;
+        private long nanos;
+
+        private void record(long start) {
+            this.nanos += System.nanoTime() - start;
+            this.calls++;
+        }
+    }
+
+    /**
+     * The counters of a stage of the pipeline.
+     */
+    @Data
+    public static class StageTiming {
+        /**
+         * The name of the stage.
+         */
+        @Nonnull
+        private final String name;
+        /**
+         * The number of events forwarded to the stage.
+         */
+        private final long calls;
+        /**
+         * The time spent in the stage, in nanoseconds.
+         */
+        private final long nanos;
+    }
+}
@@ -0,0 +1,175 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfTemplate;
+import com.lowagie.text.pdf.PdfWriter;
+import dev.lucasmendes.simple_pdf.configurations.PageNumbering;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This stage writes the numbers of the pages of a {@link PageNumbering}.
+ * <p>
+ * The text from the first total on is written in a form, filled when the document is closed. The form is shared by
+ * every page when the text is left aligned and the part in the form is the same on each page. Otherwise, each page has
+ * a form with its whole text, so it is aligned with its final width.
+ */
+final class PageNumberStamp extends PdfPageEventHelper {
+    @Nonnull
+    private final PageNumbering numbering;
+    @Nonnull
+    private final PdfCommons pdfCommons;
+    /**
+     * The font of the numbers, resolved on the first page, when the default font is known.
+     */
+    private Font font;
+    private BaseFont baseFont;
+    private float size;
+    /**
+     * The text before the first total, with the {@link PageNumbering#PAGE} placeholder.
+     */
+    @Nonnull
+    private final String before;
+    /**
+     * The text from the first total on, or null if the format does not have the total.
+     */
+    @Nullable
+    private final String after;
+    /**
+     * True if every page shares the form of the text from the first total on.
+     */
+    private final boolean shared;
+    @Nullable
+    private PdfTemplate sharedForm;
+    /**
+     * The forms of the pages that do not share the form, with their text.
+     */
+    private final Map<PdfTemplate, String> pageForms = new LinkedHashMap<>();
+    private int pages = 0;
+
+    PageNumberStamp(@Nonnull PageNumbering numbering, @Nonnull PdfCommons pdfCommons) {
+        this.numbering = numbering;
+        this.pdfCommons = pdfCommons;
+        var format = numbering.getFormat();
+        var totalIndex = format.indexOf(PageNumbering.TOTAL);
+        this.before = totalIndex < 0 ? format : format.substring(0, totalIndex);
+        this.after = totalIndex < 0 ? null : format.substring(totalIndex);
+        this.shared = this.after != null
+                && !this.after.contains(PageNumbering.PAGE)
+                && numbering.getHorizontalAlignment() != HorizontalAlignment.CENTER
+                && numbering.getHorizontalAlignment() != HorizontalAlignment.RIGHT;
+    }
+
+    /**
+     * This method is used to write the number of a page that ends, with the form of the total.
+     *
+     * @param writer   The writer of the document.
+     * @param document The document.
+     */
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        if (this.font == null) {
+            var simpleFont = this.numbering.getFont() != null ? this.numbering.getFont() : this.pdfCommons.getDefaultFont();
+            this.font = simpleFont != null ? simpleFont.getOpenPdfFont() : new Font();
+            this.baseFont = this.font.getCalculatedBaseFont(false);
+            this.size = this.font.getCalculatedSize();
+        }
+        var page = writer.getPageNumber();
+        this.pages = Math.max(this.pages, page);
+        var pageText = String.valueOf(page);
+        var y = this.numbering.getVerticalAlignment() == VerticalAlignment.TOP
+                ? document.top() + this.numbering.getOffset()
+                : document.bottom() - this.numbering.getOffset() - this.baseFont.getFontDescriptor(BaseFont.ASCENT, this.size);
+        var canvas = writer.getDirectContent();
+
+        if (this.after == null) {
+            var text = this.before.replace(PageNumbering.PAGE, pageText);
+            ColumnText.showTextAligned(canvas, this.getAlignment(), new Phrase(text, this.font), this.getX(document), y, 0);
+        } else if (this.shared) {
+            var before = this.before.replace(PageNumbering.PAGE, pageText);
+            ColumnText.showTextAligned(canvas, Element.ALIGN_LEFT, new Phrase(before, this.font), document.left(), y, 0);
+            if (this.sharedForm == null) {
+                this.sharedForm = this.createForm(canvas, 0);
+            }
+            canvas.addTemplate(this.sharedForm, document.left() + this.baseFont.getWidthPoint(before, this.size), y);
+        } else {
+            var form = this.createForm(canvas, document.right() - document.left());
+            this.pageForms.put(form, (this.before + this.after).replace(PageNumbering.PAGE, pageText));
+            canvas.addTemplate(form, document.left(), y);
+        }
+    }
+
+    /**
+     * This method is used to write the number of pages in the forms, when the document is closed.
+     *
+     * @param writer   The writer of the document.
+     * @param document The document.
+     */
+    @Override
+    public void onCloseDocument(PdfWriter writer, Document document) {
+        // the writer has started the page after the last one, so a stamp removed from the pipeline before the end of
+        // the document still writes the number of pages of the document
+        var total = String.valueOf(Math.max(this.pages, writer.getPageNumber() - 1));
+        if (this.sharedForm != null) {
+            var text = this.after.replace(PageNumbering.TOTAL, total);
+            var bounds = this.sharedForm.getBoundingBox();
+            this.sharedForm.setBoundingBox(new Rectangle(0, bounds.getBottom(), this.baseFont.getWidthPoint(text, this.size), bounds.getTop()));
+            ColumnText.showTextAligned(this.sharedForm, Element.ALIGN_LEFT, new Phrase(text, this.font), 0, 0, 0);
+        }
+        for (var entry : this.pageForms.entrySet()) {
+            var form = entry.getKey();
+            var text = entry.getValue().replace(PageNumbering.TOTAL, total);
+            var x = this.getX(0, form.getBoundingBox().getRight());
+            ColumnText.showTextAligned(form, this.getAlignment(), new Phrase(text, this.font), x, 0, 0);
+        }
+        this.pageForms.clear();
+    }
+
+    private PdfTemplate createForm(PdfContentByte canvas, float width) {
+        var ascent = this.baseFont.getFontDescriptor(BaseFont.ASCENT, this.size);
+        var descent = this.baseFont.getFontDescriptor(BaseFont.DESCENT, this.size);
+        var form = canvas.createTemplate(width, ascent - descent);
+        form.setBoundingBox(new Rectangle(0, descent, width, ascent));
+        return form;
+    }
+
+    private int getAlignment() {
+        switch (this.numbering.getHorizontalAlignment()) {
+            case RIGHT:
+                return Element.ALIGN_RIGHT;
+            case CENTER:
+                return Element.ALIGN_CENTER;
+            default:
+                return Element.ALIGN_LEFT;
+        }
+    }
+
+    private float getX(Document document) {
+        return this.getX(document.left(), document.right());
+    }
+
+    private float getX(float left, float right) {
+        switch (this.numbering.getHorizontalAlignment()) {
+            case RIGHT:
+                return right;
+            case CENTER:
+                return (left + right) / 2;
+            default:
+                return left;
+        }
+    }
+}
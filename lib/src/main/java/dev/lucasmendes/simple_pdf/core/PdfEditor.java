@@ -3,6 +3,7 @@ package dev.lucasmendes.simple_pdf.core;
 import com.lowagie.text.Document;
 import com.lowagie.text.pdf.PdfWriter;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.elements.IncrementalInsertable;
 import dev.lucasmendes.simple_pdf.elements.Insertable;
 import dev.lucasmendes.simple_pdf.elements.PdfPTableEditor;
 import dev.lucasmendes.simple_pdf.exceptions.CouldNotCreateException;
@@ -37,12 +38,16 @@ public class PdfEditor extends PdfEditorBase<PdfEditor> {
 
     /**
      * Inserts an element into the document.
+     * {@link IncrementalInsertable} elements are written part by part.
      *
      * @param insertable {@link Insertable} object.
      * @return boolean indicating if the element was inserted successfully.
      */
     @Override
     protected boolean insertElement(Insertable<?> insertable) {
+        if (insertable instanceof IncrementalInsertable) {
+            return ((IncrementalInsertable<?>) insertable).insertInto(this.document);
+        }
         return this.document.add(insertable.getElement());
     }
 
@@ -1,17 +1,23 @@
 package dev.lucasmendes.simple_pdf.core;
 
-import dev.lucasmendes.simple_pdf.configurations.DataTableStyle;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.elements.CsvSource;
 import dev.lucasmendes.simple_pdf.elements.DataTable;
 import dev.lucasmendes.simple_pdf.elements.Insertable;
+import dev.lucasmendes.simple_pdf.elements.PdfImage;
+import dev.lucasmendes.simple_pdf.elements.ResultSetSource;
 import dev.lucasmendes.simple_pdf.elements.SimpleFont;
 import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.elements.StreamingDataTable;
 import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
 import dev.lucasmendes.simple_pdf.exceptions.CouldNotInsertException;
 import lombok.Data;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -51,11 +57,123 @@ public abstract class PdfEditorBase<T extends PdfEditorBase<T>> {
     public <D> T addDataTable(@Nonnull Consumer<DataTable.DataTableBuilder<D>> buildTable) {
         final var builder = DataTable.<D>builder()
                 .pdfCommons(this.pdfCommons)
-                        .style(DataTableStyle.defaults(this.pdfCommons.getDefaultFont()));
+                        .style(this.pdfCommons.getDefaultDataTableStyle());
         buildTable.accept(builder);
         return add(builder.build());
     }
 
+    /**
+     * Add a streaming data table to the PDF.
+     * The items are read only once, while the table is written, and the rows are flushed to the document
+     * every {@link StreamingDataTable#getFlushEvery()} rows.
+     * You need to provide at least <b>items</b> and <b>{@link Class<T>} objectClass</b> or <b>columns</b>.
+     *
+     * @param buildTable A consumer that receives a {@link StreamingDataTable.StreamingDataTableBuilder} and builds the table.
+     * @return the current instance of the PDF editor
+     */
+    public <D> T addStreamingDataTable(@Nonnull Consumer<StreamingDataTable.StreamingDataTableBuilder<D>> buildTable) {
+        final var builder = StreamingDataTable.<D>builder()
+                .pdfCommons(this.pdfCommons)
+                .style(this.pdfCommons.getDefaultDataTableStyle());
+        buildTable.accept(builder);
+        return add(builder.build());
+    }
+
+    /**
+     * Add a streaming data table with the rows of a result set to the PDF.
+     * The headers are the labels of the columns of the query and the rows are read from the result set while
+     * the table is written, without copying them to objects. The result set is not closed.
+     * The query has already been executed, so the fetch size is only a hint for the driver, use
+     * {@link #addResultSetTable(PreparedStatement, int, Consumer)} to stream a large query.
+     *
+     * @param resultSet  the result set, positioned before the first row
+     * @param fetchSize  the number of rows fetched from the database at a time
+     * @param buildTable A consumer that receives a {@link StreamingDataTable.StreamingDataTableBuilder} with the
+     *                   items and the columns of the result set, to customize the table.
+     * @return the current instance of the PDF editor
+     */
+    public T addResultSetTable(
+            @Nonnull ResultSet resultSet,
+            int fetchSize,
+            @Nonnull Consumer<StreamingDataTable.StreamingDataTableBuilder<ResultSet>> buildTable
+    ) {
+        return this.addResultSetTable(ResultSetSource.of(resultSet, fetchSize), buildTable);
+    }
+
+    /**
+     * Add a streaming data table with the rows of a query to the PDF.
+     * The fetch size is set on the statement before the query is executed, so the driver reads the rows while the
+     * table is written instead of all of them at once. PostgreSQL also requires the auto-commit of the connection to
+     * be off, see {@link ResultSetSource#of(PreparedStatement, int)}. The statement is not closed.
+     *
+     * @param statement  the statement of the query, with its parameters set
+     * @param fetchSize  the number of rows fetched from the database at a time
+     * @param buildTable A consumer that receives a {@link StreamingDataTable.StreamingDataTableBuilder} with the
+     *                   items and the columns of the result set, to customize the table.
+     * @return the current instance of the PDF editor
+     */
+    public T addResultSetTable(
+            @Nonnull PreparedStatement statement,
+            int fetchSize,
+            @Nonnull Consumer<StreamingDataTable.StreamingDataTableBuilder<ResultSet>> buildTable
+    ) {
+        return this.addResultSetTable(ResultSetSource.of(statement, fetchSize), buildTable);
+    }
+
+    private T addResultSetTable(
+            ResultSetSource source,
+            Consumer<StreamingDataTable.StreamingDataTableBuilder<ResultSet>> buildTable
+    ) {
+        return this.<ResultSet>addStreamingDataTable(builder -> {
+            builder.items(source.iterator()).columns(source.getColumns());
+            buildTable.accept(builder);
+        });
+    }
+
+    /**
+     * Add a streaming data table with the rows of a result set to the PDF.
+     *
+     * @param resultSet the result set, positioned before the first row
+     * @return the current instance of the PDF editor
+     * @see #addResultSetTable(ResultSet, int, Consumer)
+     */
+    public T addResultSetTable(@Nonnull ResultSet resultSet) {
+        return this.addResultSetTable(resultSet, ResultSetSource.DEFAULT_FETCH_SIZE, builder -> {
+        });
+    }
+
+    /**
+     * Add a streaming data table with the rows of a CSV file to the PDF.
+     * The file is memory-mapped and the rows are parsed while the table is written, without copying them
+     * to objects.
+     *
+     * @param source     the CSV file
+     * @param buildTable A consumer that receives a {@link StreamingDataTable.StreamingDataTableBuilder} with the
+     *                   items and the columns of the file, to customize the table.
+     * @return the current instance of the PDF editor
+     */
+    public T addCsvTable(
+            @Nonnull CsvSource source,
+            @Nonnull Consumer<StreamingDataTable.StreamingDataTableBuilder<CsvSource.Row>> buildTable
+    ) {
+        return this.<CsvSource.Row>addStreamingDataTable(builder -> {
+            builder.items(source.iterator()).columns(source.getColumns());
+            buildTable.accept(builder);
+        });
+    }
+
+    /**
+     * Add a streaming data table with the rows of a comma separated UTF-8 file, with the headers in the first line.
+     *
+     * @param path the path of the CSV file
+     * @return the current instance of the PDF editor
+     * @see #addCsvTable(CsvSource, Consumer)
+     */
+    public T addCsvTable(@Nonnull Path path) {
+        return this.addCsvTable(CsvSource.of(path), builder -> {
+        });
+    }
+
     /**
      * Adds an insertable element to the PDF.
      *
@@ -67,8 +185,17 @@ public abstract class PdfEditorBase<T extends PdfEditorBase<T>> {
         if (insertable instanceof SimpleParagraph) {
             var paragraph = (SimpleParagraph) insertable;
             if (!paragraph.hasFont()) {
-                insertable = paragraph.withFont(this.pdfCommons.getDefaultFont());
+                paragraph = paragraph.withFont(this.pdfCommons.getDefaultFont());
+            }
+            if (paragraph.getFallbackChain() == null && paragraph.hasFont()) {
+                var fallbackChain = this.pdfCommons.getFallbackChain(paragraph.getFont());
+                if (fallbackChain != null) {
+                    paragraph = paragraph.withFallbackChain(fallbackChain);
+                }
             }
+            insertable = paragraph;
+        } else if (insertable instanceof PdfImage) {
+            insertable = this.pdfCommons.resolveImage((PdfImage) insertable);
         }
         final var insertableFinal = insertable;
         throwIfFalse(
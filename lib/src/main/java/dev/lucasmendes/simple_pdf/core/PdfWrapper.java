@@ -1,30 +1,118 @@
 package dev.lucasmendes.simple_pdf.core;
 
+import dev.lucasmendes.simple_pdf.configurations.ImageCompression;
+import dev.lucasmendes.simple_pdf.configurations.OutputConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageNumbering;
 import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.configurations.Watermark;
+import dev.lucasmendes.simple_pdf.elements.PdfTemplateEditor;
 import dev.lucasmendes.simple_pdf.elements.SimpleFont;
 import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfPageEvent;
 import com.lowagie.text.pdf.PdfPageEventHelper;
 import com.lowagie.text.pdf.PdfWriter;
 import lombok.Data;
 import lombok.SneakyThrows;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 @Data
 public class PdfWrapper implements Closeable {
     private final Document document;
     private final PdfWriter writer;
+    /**
+     * The names of the decorations, in the order they are dispatched.
+     */
+    private static final List<String> DECORATIONS = List.of(
+            PageEventPipeline.HEADER,
+            PageEventPipeline.HEADER_TEMPLATE,
+            PageEventPipeline.WATERMARK,
+            PageEventPipeline.FOOTER_TEMPLATE,
+            PageEventPipeline.PAGE_NUMBERING
+    );
+
     private final Events events = new Events();
+    /**
+     * The page event of the writer, with the stages of the header, the footer and the other decorations.
+     */
+    private final PageEventPipeline pageEvents = new PageEventPipeline();
     private final PdfCommons pdfCommons;
 
     public static PdfWrapper fromFile(File pdfFile) throws FileNotFoundException {
         return PdfWrapper.fromFile(pdfFile, new PageConfiguration());
     }
 
+    /**
+     * This method is used to create a wrapper that writes to a file through a {@link ChannelOutputStream} with the
+     * default {@link OutputConfiguration}.
+     *
+     * @param pdfFile           The file of the document.
+     * @param pageConfiguration The configuration of the pages.
+     * @return The wrapper.
+     * @throws FileNotFoundException If the file could not be opened.
+     */
+    @SneakyThrows(IOException.class)
     public static PdfWrapper fromFile(File pdfFile, PageConfiguration pageConfiguration) throws FileNotFoundException {
-        return new PdfWrapper(new FileOutputStream(pdfFile), pageConfiguration);
+        var channel = new FileOutputStream(pdfFile).getChannel();
+        return new PdfWrapper(new ChannelOutputStream(channel), pageConfiguration);
+    }
+
+    /**
+     * This method is used to create a wrapper that writes to a file with the default page and output configurations.
+     *
+     * @param path    The path of the file.
+     * @param options The options to open the file, or none to create it or replace its content.
+     * @return The wrapper.
+     * @throws IOException If the file could not be opened.
+     * @see #fromPath(Path, PageConfiguration, OutputConfiguration, OpenOption...)
+     */
+    public static PdfWrapper fromPath(Path path, OpenOption... options) throws IOException {
+        return PdfWrapper.fromPath(path, new PageConfiguration(), new OutputConfiguration(), options);
+    }
+
+    /**
+     * This method is used to create a wrapper that writes to a file through a {@link ChannelOutputStream}, with a large
+     * direct buffer, an optional preallocation of the file and a policy to force the bytes to the storage device.
+     *
+     * @param path                The path of the file.
+     * @param pageConfiguration   The configuration of the pages.
+     * @param outputConfiguration The configuration of the output.
+     * @param options             The options to open the file, or none to create it or replace its content. The file is
+     *                            always opened for writing.
+     * @return The wrapper.
+     * @throws IOException If the file could not be opened or extended.
+     */
+    public static PdfWrapper fromPath(
+            Path path,
+            PageConfiguration pageConfiguration,
+            OutputConfiguration outputConfiguration,
+            OpenOption... options
+    ) throws IOException {
+        var openOptions = new HashSet<OpenOption>(Arrays.asList(options));
+        if (openOptions.isEmpty()) {
+            openOptions.add(StandardOpenOption.CREATE);
+            openOptions.add(StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        openOptions.add(StandardOpenOption.WRITE);
+        var channel = FileChannel.open(path, openOptions);
+        try {
+            return new PdfWrapper(new ChannelOutputStream(channel, outputConfiguration), pageConfiguration);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
     }
 
     public PdfWrapper(OutputStream pdfStream, PageConfiguration pageConfiguration) {
@@ -48,6 +136,7 @@ public class PdfWrapper implements Closeable {
     public void close() {
         this.document.close();
         this.writer.close();
+        this.pdfCommons.getImageRegistry().clear();
     }
 
     public PdfWrapper registerFont(SimpleFont simpleFont) {
@@ -63,23 +152,164 @@ public class PdfWrapper implements Closeable {
         return this;
     }
 
+    /**
+     * This method is used to add a font to the end of the fallback chain, used for the characters the font of a
+     * paragraph cannot display.
+     *
+     * @param simpleFont The fallback font.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper registerFallbackFont(SimpleFont simpleFont) {
+        this.pdfCommons.getFallbackFonts().add(simpleFont);
+        return this;
+    }
+
+    /**
+     * This method is used to set the resampling of the images that do not have their own compression.
+     *
+     * @param compression The compression of the images.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper setImageCompression(ImageCompression compression) {
+        this.pdfCommons.setDefaultImageCompression(compression);
+        return this;
+    }
+
     public PdfWrapper setHeaderEvent(Consumer<PdfEditor> headerBuilder) {
-        this.events.setHeader(headerBuilder);
+        this.setDecoration(PageEventPipeline.HEADER, headerBuilder != null ? this.createHeaderStage(headerBuilder) : null);
+        return this;
+    }
+
+    /**
+     * This method is used to set a header that is laid out once, on the first page, and stamped on every page.
+     * The content of the pages starts below the header.
+     * Unlike {@link #setHeaderEvent(Consumer)}, the builder is called once, and the texts that change on every page
+     * are the {@link PdfTemplateEditor#slot(java.util.function.IntFunction) slots} of the template.
+     *
+     * @param templateBuilder The builder of the elements of the header.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper setHeaderTemplate(Consumer<PdfTemplateEditor> templateBuilder) {
+        this.setDecoration(
+                PageEventPipeline.HEADER_TEMPLATE,
+                templateBuilder != null ? new TemplateStage(this.pdfCommons, templateBuilder, true) : null
+        );
         return this;
     }
 
+    /**
+     * This method is used to set a footer that is laid out once, on the first page, and stamped on every page, below
+     * the bottom margin.
+     *
+     * @param templateBuilder The builder of the elements of the footer.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     * @see #setHeaderTemplate(Consumer)
+     */
+    public PdfWrapper setFooterTemplate(Consumer<PdfTemplateEditor> templateBuilder) {
+        this.setDecoration(
+                PageEventPipeline.FOOTER_TEMPLATE,
+                templateBuilder != null ? new TemplateStage(this.pdfCommons, templateBuilder, false) : null
+        );
+        return this;
+    }
+
+    /**
+     * This method is used to write the numbers of the pages, like "Page 3 of 12", in a single pass.
+     * The total is drawn on every page from a shared form, filled when the document is closed.
+     *
+     * @param pageNumbering The configuration of the numbers, or null to not write them.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper setPageNumbering(PageNumbering pageNumbering) {
+        this.setDecoration(
+                PageEventPipeline.PAGE_NUMBERING,
+                pageNumbering != null ? new PageNumberStamp(pageNumbering, this.pdfCommons) : null
+        );
+        return this;
+    }
+
+    /**
+     * This method is used to draw a text under the content of every page.
+     *
+     * @param watermark The watermark, or null to not draw it.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper setWatermark(Watermark watermark) {
+        this.setDecoration(PageEventPipeline.WATERMARK, watermark != null ? new WatermarkStage(watermark) : null);
+        return this;
+    }
+
+    /**
+     * This method is used to add a stage to the end of the {@link PageEventPipeline}, after the header, the watermark,
+     * the footer and the numbers of the pages.
+     * A stage with the name of another one replaces it.
+     *
+     * @param name  The name of the stage, in its counters.
+     * @param event The stage.
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
+    public PdfWrapper addPageEvent(String name, PdfPageEvent event) {
+        this.events.getStages().put(name, event);
+        this.updatePageEvents();
+        return this;
+    }
+
+    /**
+     * This method is used to forward the events of the writer to the {@link #getPageEvents() pipeline}.
+     * The stages can be changed before and after the events are registered, and while the document is written: only
+     * the changed stage is replaced, and a replaced stage still receives the closing of the document, to fill what it
+     * left for it, like the total of the numbers of the pages.
+     *
+     * @return PdfWrapper This returns the current instance of {@link PdfWrapper}.
+     */
     public PdfWrapper registerEvents() {
-        var pdfWrapper = this;
-        this.writer.setPageEvent(new PdfPageEventHelper() {
+        if (!this.events.isRegistered()) {
+            this.events.setRegistered(true);
+            this.writer.setPageEvent(this.pageEvents);
+        }
+        return this;
+    }
+
+    private PdfPageEvent createHeaderStage(Consumer<PdfEditor> headerBuilder) {
+        var pdfCommons = this.pdfCommons;
+        return new PdfPageEventHelper() {
             @Override
             public void onStartPage(PdfWriter writer, Document document) {
-                var headerFunc = pdfWrapper.events.header;
-                if (headerFunc != null) {
-                    headerFunc.accept(new PdfEditor(pdfWrapper.pdfCommons, document, writer));
-                }
+                headerBuilder.accept(new PdfEditor(pdfCommons, document, writer));
             }
-        });
-        return this;
+        };
+    }
+
+    /**
+     * This method is used to replace or remove the stage of a decoration, keeping the other stages, with their state
+     * and their counters.
+     *
+     * @param name  The name of the decoration.
+     * @param stage The stage of the decoration, or null to remove it.
+     */
+    private void setDecoration(String name, PdfPageEvent stage) {
+        if (stage != null) {
+            this.events.getDecorations().put(name, stage);
+        } else {
+            this.events.getDecorations().remove(name);
+        }
+        this.updatePageEvents();
+    }
+
+    /**
+     * This method is used to set the stages of the pipeline, with the decorations in the order they are dispatched,
+     * followed by the added stages.
+     */
+    private void updatePageEvents() {
+        var stages = new LinkedHashMap<String, PdfPageEvent>();
+        for (String name : DECORATIONS) {
+            var stage = this.events.getDecorations().get(name);
+            if (stage != null) {
+                stages.put(name, stage);
+            }
+        }
+        stages.putAll(this.events.getStages());
+        this.pageEvents.setStages(stages);
     }
 
     public PdfEditor toEditor() {
@@ -88,6 +318,14 @@ public class PdfWrapper implements Closeable {
 
     @Data
     private static class Events {
-        private Consumer<PdfEditor> header;
+        /**
+         * The stages of the header, the footer and the other decorations, by their names.
+         */
+        private final Map<String, PdfPageEvent> decorations = new HashMap<>();
+        /**
+         * The stages added by {@link PdfWrapper#addPageEvent(String, PdfPageEvent)}, by their names.
+         */
+        private final Map<String, PdfPageEvent> stages = new LinkedHashMap<>();
+        private boolean registered = false;
     }
 }
@@ -0,0 +1,56 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfWriter;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.elements.PageTemplate;
+import dev.lucasmendes.simple_pdf.elements.PdfTemplateEditor;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * This stage stamps a header, when a page starts, or a footer, when a page ends, laid out once on the first page.
+ * The content of the pages is kept below the header.
+ */
+final class TemplateStage extends PdfPageEventHelper {
+    @Nonnull
+    private final PdfCommons pdfCommons;
+    @Nonnull
+    private final Consumer<PdfTemplateEditor> templateBuilder;
+    private final boolean header;
+    private PageTemplate template;
+
+    TemplateStage(@Nonnull PdfCommons pdfCommons, @Nonnull Consumer<PdfTemplateEditor> templateBuilder, boolean header) {
+        this.pdfCommons = pdfCommons;
+        this.templateBuilder = templateBuilder;
+        this.header = header;
+    }
+
+    @Override
+    public void onStartPage(PdfWriter writer, Document document) {
+        if (this.header) {
+            var template = this.getTemplate(writer, document);
+            template.stamp(writer.getDirectContent(), document.left(), document.top() - template.getHeight(), writer.getPageNumber());
+            document.add(template.createSpacer());
+        }
+    }
+
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        if (!this.header) {
+            var template = this.getTemplate(writer, document);
+            template.stamp(writer.getDirectContent(), document.left(), document.bottom() - template.getHeight(), writer.getPageNumber());
+        }
+    }
+
+    private PageTemplate getTemplate(PdfWriter writer, Document document) {
+        if (this.template == null) {
+            var editor = new PdfTemplateEditor(this.pdfCommons);
+            this.templateBuilder.accept(editor);
+            this.template = editor.layout(writer.getDirectContent(), document.right() - document.left());
+        }
+        return this.template;
+    }
+}
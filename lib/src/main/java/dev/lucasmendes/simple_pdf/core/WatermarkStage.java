@@ -0,0 +1,66 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfGState;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfTemplate;
+import com.lowagie.text.pdf.PdfWriter;
+import dev.lucasmendes.simple_pdf.configurations.Watermark;
+
+import javax.annotation.Nonnull;
+import java.awt.Color;
+
+/**
+ * This stage draws a {@link Watermark} under the content of every page, when the page ends.
+ * The text is a form written once and drawn rotated at the center of every page.
+ */
+final class WatermarkStage extends PdfPageEventHelper {
+    @Nonnull
+    private final Watermark watermark;
+    private PdfTemplate template;
+    private PdfGState state;
+
+    WatermarkStage(@Nonnull Watermark watermark) {
+        this.watermark = watermark;
+    }
+
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        var canvas = writer.getDirectContentUnder();
+        if (this.template == null) {
+            var font = this.watermark.getFont() != null
+                    ? this.watermark.getFont().getOpenPdfFont()
+                    : new Font(Font.HELVETICA, Watermark.DEFAULT_SIZE, Font.BOLD, Color.LIGHT_GRAY);
+            var baseFont = font.getCalculatedBaseFont(false);
+            var size = font.getCalculatedSize();
+            var ascent = baseFont.getFontDescriptor(BaseFont.ASCENT, size);
+            var descent = baseFont.getFontDescriptor(BaseFont.DESCENT, size);
+            var width = baseFont.getWidthPoint(this.watermark.getText(), size);
+            this.template = canvas.createTemplate(width, ascent - descent);
+            this.template.setBoundingBox(new Rectangle(0, descent, width, ascent));
+            ColumnText.showTextAligned(this.template, Element.ALIGN_LEFT, new Phrase(this.watermark.getText(), font), 0, 0, 0);
+            this.state = new PdfGState();
+            this.state.setFillOpacity(this.watermark.getOpacity());
+        }
+        var radians = Math.toRadians(this.watermark.getRotation());
+        var cos = (float) Math.cos(radians);
+        var sin = (float) Math.sin(radians);
+        var box = this.template.getBoundingBox();
+        // the center of the text goes to the center of the page
+        var centerX = (box.getLeft() + box.getRight()) / 2;
+        var centerY = (box.getBottom() + box.getTop()) / 2;
+        var page = document.getPageSize();
+        var x = (page.getLeft() + page.getRight()) / 2 - (cos * centerX - sin * centerY);
+        var y = (page.getBottom() + page.getTop()) / 2 - (sin * centerX + cos * centerY);
+        canvas.saveState();
+        canvas.setGState(this.state);
+        canvas.addTemplate(this.template, cos, sin, -sin, cos, x, y);
+        canvas.restoreState();
+    }
+}
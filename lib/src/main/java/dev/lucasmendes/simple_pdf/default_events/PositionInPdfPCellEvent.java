@@ -0,0 +1,31 @@
+package dev.lucasmendes.simple_pdf.default_events;
+
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPCellEvent;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * This event records the area of the content of a cell, inside its padding, when the cell is laid out.
+ * It does not draw anything in the cell.
+ */
+public class PositionInPdfPCellEvent implements PdfPCellEvent {
+    @Nonnull
+    private final Consumer<Rectangle> listener;
+
+    public PositionInPdfPCellEvent(@Nonnull Consumer<Rectangle> listener) {
+        this.listener = listener;
+    }
+
+    public void cellLayout(PdfPCell cell, Rectangle position, PdfContentByte[] canvases) {
+        this.listener.accept(new Rectangle(
+                position.getLeft() + cell.getEffectivePaddingLeft(),
+                position.getBottom() + cell.getEffectivePaddingBottom(),
+                position.getRight() - cell.getEffectivePaddingRight(),
+                position.getTop() - cell.getEffectivePaddingTop()
+        ));
+    }
+}
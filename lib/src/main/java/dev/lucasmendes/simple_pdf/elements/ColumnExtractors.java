@@ -0,0 +1,215 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import lombok.Data;
+
+import javax.annotation.Nonnull;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class creates typed extractors for the columns of a {@link DataTable}.
+ * <p>
+ * The values are read with primitive getters, so numeric cells are formatted without boxing,
+ * and they are formatted into a buffer reused by each thread. The formatters are created once per
+ * pattern and locale and kept for the last {@value #CACHED_FORMATS} patterns: {@link DecimalFormat} is not
+ * thread-safe, so each column gives each thread its own copy, released with the column, while
+ * {@link DateTimeFormatter} is shared as is.
+ */
+public final class ColumnExtractors {
+    /**
+     * The text of the cells whose value is null.
+     */
+    public static final String NULL_VALUE = "NULL";
+
+    private static final int CACHED_FORMATS = 64;
+    private static final Map<FormatKey, DecimalFormat> NUMBER_FORMATS = cache();
+    private static final Map<FormatKey, DateTimeFormatter> DATE_FORMATS = cache();
+    private static final ThreadLocal<StringBuilder> DATE_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private ColumnExtractors() {
+    }
+
+    /**
+     * This method is used to create an extractor for an int value, formatted with {@link Integer#toString(int)}.
+     *
+     * @param getter The getter of the value.
+     * @param <T>    The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofInt(@Nonnull ToIntFunction<T> getter) {
+        return item -> Integer.toString(getter.applyAsInt(item));
+    }
+
+    /**
+     * This method is used to create an extractor for an int value, formatted with a {@link DecimalFormat} pattern.
+     *
+     * @param getter  The getter of the value.
+     * @param pattern The pattern of the {@link DecimalFormat}.
+     * @param locale  The locale of the symbols of the pattern.
+     * @param <T>     The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofInt(@Nonnull ToIntFunction<T> getter, @Nonnull String pattern, @Nonnull Locale locale) {
+        final var format = numberFormat(pattern, locale);
+        return item -> format.get().format(getter.applyAsInt(item));
+    }
+
+    /**
+     * This method is used to create an extractor for a long value, formatted with {@link Long#toString(long)}.
+     *
+     * @param getter The getter of the value.
+     * @param <T>    The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofLong(@Nonnull ToLongFunction<T> getter) {
+        return item -> Long.toString(getter.applyAsLong(item));
+    }
+
+    /**
+     * This method is used to create an extractor for a long value, formatted with a {@link DecimalFormat} pattern.
+     *
+     * @param getter  The getter of the value.
+     * @param pattern The pattern of the {@link DecimalFormat}.
+     * @param locale  The locale of the symbols of the pattern.
+     * @param <T>     The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofLong(@Nonnull ToLongFunction<T> getter, @Nonnull String pattern, @Nonnull Locale locale) {
+        final var format = numberFormat(pattern, locale);
+        return item -> format.get().format(getter.applyAsLong(item));
+    }
+
+    /**
+     * This method is used to create an extractor for a double value, formatted with a {@link DecimalFormat} pattern.
+     *
+     * @param getter  The getter of the value.
+     * @param pattern The pattern of the {@link DecimalFormat}.
+     * @param locale  The locale of the symbols of the pattern.
+     * @param <T>     The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofDouble(@Nonnull ToDoubleFunction<T> getter, @Nonnull String pattern, @Nonnull Locale locale) {
+        final var format = numberFormat(pattern, locale);
+        return item -> format.get().format(getter.applyAsDouble(item));
+    }
+
+    /**
+     * This method is used to create an extractor for a date, a time or a date time value.
+     *
+     * @param getter    The getter of the value, that may return null.
+     * @param formatter The formatter of the value.
+     * @param <T>       The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofTemporal(
+            @Nonnull Function<T, ? extends TemporalAccessor> getter,
+            @Nonnull DateTimeFormatter formatter
+    ) {
+        return item -> {
+            var value = getter.apply(item);
+            if (value == null) {
+                return NULL_VALUE;
+            }
+            var buffer = DATE_BUFFER.get();
+            buffer.setLength(0);
+            formatter.formatTo(value, buffer);
+            return buffer.toString();
+        };
+    }
+
+    /**
+     * This method is used to create an extractor for a date, a time or a date time value.
+     *
+     * @param getter  The getter of the value, that may return null.
+     * @param pattern The pattern of the {@link DateTimeFormatter}.
+     * @param locale  The locale of the formatter.
+     * @param <T>     The type of the objects in the table.
+     * @return The extractor of the column.
+     */
+    public static <T> Function<T, String> ofTemporal(
+            @Nonnull Function<T, ? extends TemporalAccessor> getter,
+            @Nonnull String pattern,
+            @Nonnull Locale locale
+    ) {
+        var formatter = DATE_FORMATS.computeIfAbsent(
+                new FormatKey(pattern, locale),
+                key -> DateTimeFormatter.ofPattern(key.getPattern(), key.getLocale())
+        );
+        return ofTemporal(getter, formatter);
+    }
+
+    /**
+     * This method is used to get the formatter of a number pattern for a column.
+     * The pattern is parsed once and each thread of the column formats with its own copy.
+     *
+     * @param pattern The pattern of the {@link DecimalFormat}.
+     * @param locale  The locale of the symbols of the pattern.
+     * @return The formatter of each thread.
+     */
+    private static ThreadLocal<NumberFormatter> numberFormat(String pattern, Locale locale) {
+        // validates the pattern when the column is created, and not when the first cell is formatted
+        var prototype = NUMBER_FORMATS.computeIfAbsent(
+                new FormatKey(pattern, locale),
+                key -> new DecimalFormat(key.getPattern(), DecimalFormatSymbols.getInstance(key.getLocale()))
+        );
+        return ThreadLocal.withInitial(() -> new NumberFormatter((DecimalFormat) prototype.clone()));
+    }
+
+    /**
+     * This method is used to create a cache of formatters that keeps the most recently used ones.
+     *
+     * @param <V> The type of the formatters.
+     * @return The cache.
+     */
+    private static <V> Map<FormatKey, V> cache() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FormatKey, V> eldest) {
+                return this.size() > CACHED_FORMATS;
+            }
+        });
+    }
+
+    /**
+     * A {@link DecimalFormat} with the buffer it formats into, used by a single thread.
+     */
+    private static final class NumberFormatter {
+        private final DecimalFormat format;
+        private final StringBuffer buffer = new StringBuffer(32);
+        private final FieldPosition position = new FieldPosition(0);
+
+        private NumberFormatter(DecimalFormat format) {
+            this.format = format;
+        }
+
+        private String format(long value) {
+            this.buffer.setLength(0);
+            return this.format.format(value, this.buffer, this.position).toString();
+        }
+
+        private String format(double value) {
+            this.buffer.setLength(0);
+            return this.format.format(value, this.buffer, this.position).toString();
+        }
+    }
+
+    /**
+     * The key of the formatters cache.
+     */
+    @Data
+    private static final class FormatKey {
+        private final String pattern;
+        private final Locale locale;
+    }
+}
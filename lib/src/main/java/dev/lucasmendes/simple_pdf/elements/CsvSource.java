@@ -0,0 +1,505 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import dev.lucasmendes.simple_pdf.exceptions.CouldNotCreateException;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * This class is used to write the rows of a CSV file to a {@link StreamingDataTable}, without copying them to
+ * objects.
+ * <p>
+ * The file is memory-mapped with {@link FileChannel#map} in windows of {@link #getWindowSize()} bytes, so files
+ * larger than the heap (or than 2 GB) are read a window at a time. The rows are parsed in place: a {@link Row}
+ * holds only the offsets of the fields in the window, and a field is decoded to a {@link String} only when it is
+ * read. The same {@link Row} is reused for every row of an iteration.
+ * <p>
+ * The fields follow RFC 4180: they are separated by {@link #getDelimiter()}, and quoted fields may contain the
+ * delimiter, line breaks and doubled quotes. The charset must encode the delimiter, the quote and the line
+ * breaks as single ASCII bytes, like UTF-8 or ISO-8859-1.
+ */
+@Getter
+@ToString
+public class CsvSource implements Iterable<CsvSource.Row> {
+    /**
+     * The default size of the mapped windows of the file.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    @Nonnull
+    private final Path path;
+    private final char delimiter;
+    @Nonnull
+    private final Charset charset;
+    private final boolean firstLineIsHeader;
+    private final int windowSize;
+    @Nonnull
+    private final List<String> headers;
+
+    private CsvSource(
+            @Nonnull Path path,
+            char delimiter,
+            @Nonnull Charset charset,
+            boolean firstLineIsHeader,
+            @Nullable List<String> headers,
+            int windowSize
+    ) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than zero");
+        }
+        if (delimiter > 0x7f || delimiter == QUOTE || delimiter == CR || delimiter == LF) {
+            throw new IllegalArgumentException("The delimiter must be an ASCII character other than a quote or a line break");
+        }
+        if (("" + delimiter + "\"\r\n").getBytes(charset).length != 4) {
+            throw new IllegalArgumentException("The charset " + charset + " is not ASCII compatible");
+        }
+        this.path = path;
+        this.delimiter = delimiter;
+        this.charset = charset;
+        this.firstLineIsHeader = firstLineIsHeader;
+        this.windowSize = windowSize;
+        this.headers = headers != null ? List.copyOf(headers) : this.readHeaders();
+    }
+
+    /**
+     * This method is used to create a source of a comma separated UTF-8 file, with the headers in the first line.
+     *
+     * @param path The path of the file.
+     * @return The source of the file.
+     * @throws CouldNotCreateException If the file could not be read.
+     */
+    public static CsvSource of(@Nonnull Path path) {
+        return builder().path(path).build();
+    }
+
+    /**
+     * This method is used to get the columns of the file, one for each header.
+     * The fields missing in a row are written as empty cells.
+     *
+     * @return The columns of the file.
+     */
+    public List<DataTableColumn<Row>> getColumns() {
+        return this.getColumns(Map.of());
+    }
+
+    /**
+     * This method is used to get the columns of the file, one for each header.
+     *
+     * @param customExtractor The extractors that replace the text of the fields, by header.
+     * @return The columns of the file.
+     */
+    public List<DataTableColumn<Row>> getColumns(@Nonnull Map<String, Function<Row, String>> customExtractor) {
+        var columns = new ArrayList<DataTableColumn<Row>>(this.headers.size());
+        for (int i = 0; i < this.headers.size(); i++) {
+            final var index = i;
+            var header = this.headers.get(i);
+            Function<Row, String> extractor = customExtractor.get(header);
+            if (extractor == null) {
+                extractor = row -> row.get(index);
+            }
+            columns.add(new DataTableColumn<>(header, header, extractor));
+        }
+        return columns;
+    }
+
+    /**
+     * This method is used to iterate over the data rows of the file, skipping the header line.
+     * Every call to {@link Iterator#next()} returns the same {@link Row}, updated with the fields of the next row,
+     * and the previous fields can no longer be read once {@link Iterator#hasNext()} is called again.
+     *
+     * @return An iterator over the rows.
+     * @throws CouldNotCreateException If the file could not be read.
+     */
+    @Override
+    public Iterator<Row> iterator() {
+        var parser = new Parser();
+        if (this.firstLineIsHeader) {
+            parser.hasNext();
+            parser.pending = false;
+        }
+        return parser;
+    }
+
+    private List<String> readHeaders() {
+        var parser = new Parser();
+        if (!parser.hasNext()) {
+            return List.of();
+        }
+        var row = parser.next();
+        var headers = new ArrayList<String>(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            headers.add(this.firstLineIsHeader ? row.get(i) : "Column " + (i + 1));
+        }
+        return headers;
+    }
+
+    public static CsvSourceBuilder builder() {
+        return new CsvSourceBuilder();
+    }
+
+    /**
+     * A row of the file, a view over the fields of the current row in the mapped window.
+     */
+    public static final class Row {
+        private final Parser parser;
+        private int size;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private boolean[] escaped = new boolean[16];
+        private long index;
+
+        private Row(Parser parser) {
+            this.parser = parser;
+        }
+
+        /**
+         * This method is used to get the number of fields in the row.
+         *
+         * @return The number of fields.
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * This method is used to get the index of the row in the file, starting at 0 with the first line.
+         *
+         * @return The index of the row.
+         */
+        public long getIndex() {
+            return this.index;
+        }
+
+        /**
+         * This method is used to get the text of a field, decoded with the charset of the file.
+         *
+         * @param index The index of the field, starting at 0.
+         * @return The text of the field, or an empty string if the row has fewer fields.
+         */
+        public String get(int index) {
+            if (index < 0 || index >= this.size) {
+                return "";
+            }
+            return this.parser.decode(this.starts[index], this.ends[index], this.escaped[index]);
+        }
+
+        private void clear(long index) {
+            this.size = 0;
+            this.index = index;
+        }
+
+        private void add(int start, int end, boolean escaped) {
+            if (this.size == this.starts.length) {
+                var length = this.size * 2;
+                this.starts = Arrays.copyOf(this.starts, length);
+                this.ends = Arrays.copyOf(this.ends, length);
+                this.escaped = Arrays.copyOf(this.escaped, length);
+            }
+            this.starts[this.size] = start;
+            this.ends[this.size] = end;
+            this.escaped[this.size] = escaped;
+            this.size++;
+        }
+
+        @Override
+        public String toString() {
+            var fields = new ArrayList<String>(this.size);
+            for (int i = 0; i < this.size; i++) {
+                fields.add(this.get(i));
+            }
+            return "CsvSource.Row(index=" + this.index + ", fields=" + fields + ")";
+        }
+    }
+
+    /**
+     * The parser of an iteration over the file. It maps a window of the file and moves it forward when a row
+     * does not fit in the rest of the window.
+     */
+    private final class Parser implements Iterator<Row> {
+        private final Row row = new Row(this);
+        private final byte delimiterByte = (byte) CsvSource.this.delimiter;
+        private final long fileSize;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private int position;
+        private long rowIndex;
+        private boolean pending;
+        private byte[] scratch = new byte[256];
+
+        private Parser() {
+            try (var channel = FileChannel.open(CsvSource.this.path, StandardOpenOption.READ)) {
+                this.fileSize = channel.size();
+            } catch (IOException e) {
+                throw new CouldNotCreateException("Could not read the file " + CsvSource.this.path, e);
+            }
+            this.map(0, CsvSource.this.windowSize);
+            if (this.window.limit() >= 3
+                    && (this.window.get(0) & 0xff) == 0xef
+                    && (this.window.get(1) & 0xff) == 0xbb
+                    && (this.window.get(2) & 0xff) == 0xbf) {
+                this.position = 3;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.pending) {
+                if (this.windowStart + this.position >= this.fileSize) {
+                    return false;
+                }
+                var end = this.parse(this.position);
+                if (end < 0) {
+                    // the next window starts at the row and is at least twice the part of the row already seen
+                    var remaining = this.window.limit() - this.position;
+                    if (remaining == Integer.MAX_VALUE) {
+                        throw new CouldNotCreateException("A row of " + CsvSource.this.path + " is larger than 2 GB");
+                    }
+                    this.map(this.windowStart + this.position, Math.max(CsvSource.this.windowSize, remaining * 2L));
+                    continue;
+                }
+                this.position = end;
+                var blank = this.row.size == 1 && this.row.starts[0] == this.row.ends[0] && !this.row.escaped[0];
+                this.rowIndex++;
+                this.pending = !blank;
+            }
+            return true;
+        }
+
+        @Override
+        public Row next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.pending = false;
+            return this.row;
+        }
+
+        /**
+         * This method is used to parse the row that starts at a position of the window.
+         *
+         * @param from The position of the start of the row.
+         * @return The position after the end of the row, or -1 if the row does not end in the window.
+         */
+        private int parse(int from) {
+            var buffer = this.window;
+            var limit = buffer.limit();
+            var lastWindow = this.windowStart + limit >= this.fileSize;
+            var position = from;
+            this.row.clear(this.rowIndex);
+            while (true) {
+                int start;
+                int end;
+                var escaped = false;
+                if (position < limit && buffer.get(position) == QUOTE) {
+                    start = ++position;
+                    while (true) {
+                        if (position >= limit) {
+                            if (!lastWindow) {
+                                return -1;
+                            }
+                            throw new CouldNotCreateException("Unterminated quoted field in row " + this.rowIndex + " of " + CsvSource.this.path);
+                        }
+                        if (buffer.get(position) == QUOTE) {
+                            if (position + 1 < limit && buffer.get(position + 1) == QUOTE) {
+                                escaped = true;
+                                position += 2;
+                                continue;
+                            }
+                            if (position + 1 >= limit && !lastWindow) {
+                                return -1;
+                            }
+                            break;
+                        }
+                        position++;
+                    }
+                    end = position++;
+                    // ignores the characters between the closing quote and the end of the field
+                    while (position < limit && !this.isFieldEnd(buffer.get(position))) {
+                        position++;
+                    }
+                    // the field is quoted, even when it is empty
+                    escaped = escaped || start == end;
+                } else {
+                    start = position;
+                    while (position < limit && !this.isFieldEnd(buffer.get(position))) {
+                        position++;
+                    }
+                    end = position;
+                }
+                this.row.add(start, end, escaped);
+
+                if (position >= limit) {
+                    return lastWindow ? position : -1;
+                }
+                var current = buffer.get(position);
+                if (current == this.delimiterByte) {
+                    position++;
+                } else if (current == LF) {
+                    return position + 1;
+                } else {
+                    position++;
+                    if (position < limit) {
+                        return buffer.get(position) == LF ? position + 1 : position;
+                    }
+                    return lastWindow ? position : -1;
+                }
+            }
+        }
+
+        private boolean isFieldEnd(byte value) {
+            return value == this.delimiterByte || value == LF || value == CR;
+        }
+
+        /**
+         * This method is used to decode a field of the current row.
+         *
+         * @param start   The position of the first byte of the field.
+         * @param end     The position after the last byte of the field.
+         * @param escaped If the field is quoted and may contain doubled quotes.
+         * @return The text of the field.
+         */
+        private String decode(int start, int end, boolean escaped) {
+            var length = end - start;
+            if (length == 0) {
+                return "";
+            }
+            if (this.scratch.length < length) {
+                this.scratch = new byte[Math.max(length, this.scratch.length * 2)];
+            }
+            var buffer = this.window;
+            if (!escaped) {
+                buffer.position(start);
+                buffer.get(this.scratch, 0, length);
+            } else {
+                length = 0;
+                for (int i = start; i < end; i++) {
+                    var value = buffer.get(i);
+                    this.scratch[length++] = value;
+                    if (value == QUOTE) {
+                        i++;
+                    }
+                }
+            }
+            return new String(this.scratch, 0, length, CsvSource.this.charset);
+        }
+
+        private void map(long start, long size) {
+            var length = Math.min(Math.min(size, this.fileSize - start), Integer.MAX_VALUE);
+            try (var channel = FileChannel.open(CsvSource.this.path, StandardOpenOption.READ)) {
+                this.window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            } catch (IOException e) {
+                throw new CouldNotCreateException("Could not map the file " + CsvSource.this.path, e);
+            }
+            this.windowStart = start;
+            this.position = 0;
+        }
+    }
+
+    /**
+     * A builder for {@link CsvSource}.
+     */
+    public static final class CsvSourceBuilder {
+        private Path path;
+        private char delimiter = ',';
+        private Charset charset = StandardCharsets.UTF_8;
+        private boolean firstLineIsHeader = true;
+        private List<String> headers;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+
+        private CsvSourceBuilder() {
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder path(@Nonnull final Path path) {
+            if (path == null) {
+                throw new NullPointerException("path is marked non-null but is null");
+            }
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder delimiter(final char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder charset(@Nonnull final Charset charset) {
+            if (charset == null) {
+                throw new NullPointerException("charset is marked non-null but is null");
+            }
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * If the first line of the file has the headers, it is skipped by the iteration. Defaults to true.
+         *
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder firstLineIsHeader(final boolean firstLineIsHeader) {
+            this.firstLineIsHeader = firstLineIsHeader;
+            return this;
+        }
+
+        /**
+         * The headers of the columns, instead of the ones of the first line.
+         *
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder headers(@Nonnull final List<String> headers) {
+            if (headers == null) {
+                throw new NullPointerException("headers is marked non-null but is null");
+            }
+            this.headers = headers;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public CsvSourceBuilder windowSize(final int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public CsvSource build() {
+            if (this.path == null) {
+                throw new NullPointerException("path is marked non-null but is null");
+            }
+            return new CsvSource(this.path, this.delimiter, this.charset, this.firstLineIsHeader, this.headers, this.windowSize);
+        }
+
+        @Override
+        public String toString() {
+            return "CsvSource.CsvSourceBuilder(path=" + this.path + ", delimiter=" + this.delimiter + ", charset=" + this.charset + ", firstLineIsHeader=" + this.firstLineIsHeader + ", headers=" + this.headers + ", windowSize=" + this.windowSize + ")";
+        }
+    }
+}
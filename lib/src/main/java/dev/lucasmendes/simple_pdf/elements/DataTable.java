@@ -1,25 +1,38 @@
 package dev.lucasmendes.simple_pdf.elements;
 
+import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
-import dev.lucasmendes.simple_pdf.annotations.PdfAnnotationsProcessor;
+import dev.lucasmendes.simple_pdf.configurations.AutoColumnWidths;
 import dev.lucasmendes.simple_pdf.configurations.DataTableStyle;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
 import dev.lucasmendes.simple_pdf.configurations.PdfWidth;
 import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
 import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import javax.annotation.Nullable;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * This class is used to create a table with the data of a list of objects.
@@ -28,8 +41,12 @@ import java.util.stream.Collectors;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
-@AllArgsConstructor
 public class DataTable<T> extends AbstractElement<PdfPTable> {
+    /**
+     * The default number of rows of each chunk created in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_SIZE = 1024;
+
     @Nonnull
     private final PdfCommons pdfCommons;
     @Nonnull
@@ -40,6 +57,28 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
     private final Class<T> objectClass;
     @Nonnull
     private final DataTableStyle style;
+    /**
+     * The executor used to create the cells of the rows in parallel, or null to create them in the calling thread.
+     */
+    @Nullable
+    private final Executor parallelExecutor;
+    /**
+     * The number of rows of each chunk created in parallel.
+     */
+    private final int parallelChunkSize;
+    /**
+     * The configuration of the widths of the columns computed from their content, or null for columns of the same
+     * width.
+     */
+    @Nullable
+    private final AutoColumnWidths autoColumnWidths;
+    /**
+     * The table generated by {@link #getElement()}, shared with the copies that only change the alignment.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final GeneratedTable generated;
 
     public DataTable(@Nonnull PdfCommons pdfCommons, @Nonnull List<T> items, @Nonnull Class<T> objectClass) {
         this(pdfCommons, items, Map.of(), objectClass);
@@ -51,7 +90,17 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
             @Nonnull Map<String, Function<T, String>> customExtractor,
             @Nonnull Class<T> objectClass
     ) {
-        this(pdfCommons, items, customExtractor, objectClass, DataTableStyle.defaults(pdfCommons.getDefaultFont()));
+        this(pdfCommons, items, customExtractor, objectClass, pdfCommons.getDefaultDataTableStyle());
+    }
+
+    public DataTable(
+            @Nonnull PdfCommons pdfCommons,
+            @Nonnull List<T> items,
+            @Nonnull Map<String, Function<T, String>> customExtractor,
+            @Nonnull Class<T> objectClass,
+            @Nonnull DataTableStyle style
+    ) {
+        this(pdfCommons, items, customExtractor, objectClass, style, HorizontalAlignment.LEFT, VerticalAlignment.TOP);
     }
 
     public DataTable(
@@ -62,13 +111,72 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
             @Nonnull DataTableStyle style,
             @Nonnull HorizontalAlignment horizontalAlignment,
             @Nonnull VerticalAlignment verticalAlignment
+    ) {
+        this(
+                pdfCommons,
+                items,
+                customExtractor,
+                objectClass,
+                style,
+                horizontalAlignment,
+                verticalAlignment,
+                null,
+                DEFAULT_PARALLEL_CHUNK_SIZE
+        );
+    }
+
+    public DataTable(
+            @Nonnull PdfCommons pdfCommons,
+            @Nonnull List<T> items,
+            @Nonnull Map<String, Function<T, String>> customExtractor,
+            @Nonnull Class<T> objectClass,
+            @Nonnull DataTableStyle style,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment,
+            @Nullable Executor parallelExecutor,
+            int parallelChunkSize
+    ) {
+        this(
+                pdfCommons,
+                items,
+                customExtractor,
+                objectClass,
+                style,
+                horizontalAlignment,
+                verticalAlignment,
+                parallelExecutor,
+                parallelChunkSize,
+                null,
+                new GeneratedTable()
+        );
+    }
+
+    private DataTable(
+            @Nonnull PdfCommons pdfCommons,
+            @Nonnull List<T> items,
+            @Nonnull Map<String, Function<T, String>> customExtractor,
+            @Nonnull Class<T> objectClass,
+            @Nonnull DataTableStyle style,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment,
+            @Nullable Executor parallelExecutor,
+            int parallelChunkSize,
+            @Nullable AutoColumnWidths autoColumnWidths,
+            @Nonnull GeneratedTable generated
     ) {
         super(horizontalAlignment, verticalAlignment);
+        if (parallelChunkSize <= 0) {
+            throw new IllegalArgumentException("parallelChunkSize must be greater than zero");
+        }
         this.pdfCommons = pdfCommons;
         this.items = items;
         this.customExtractor = customExtractor;
         this.objectClass = objectClass;
         this.style = style;
+        this.parallelExecutor = parallelExecutor;
+        this.parallelChunkSize = parallelChunkSize;
+        this.autoColumnWidths = autoColumnWidths;
+        this.generated = generated;
     }
 
     /**
@@ -77,72 +185,225 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
      * @return A table with the data of the list of objects.
      */
     public PdfPTableEditor generateTable() {
-        var objectFields = Arrays.stream(this.objectClass.getDeclaredFields())
-                .filter(field -> !Modifier.isStatic(field.getModifiers()))
-                .filter(field -> !PdfAnnotationsProcessor.ignore(field))
-                .collect(Collectors.toList());
-        var tableEditor = new PdfPTableEditor(objectFields.size(), this.pdfCommons);
+        var columns = this.resolveColumns();
+        var tableEditor = new PdfPTableEditor(columns.size(), this.pdfCommons);
         tableEditor.setWidth(PdfWidth.max());
+        if (this.autoColumnWidths != null) {
+            var widths = this.measureColumnWidths(columns, this.autoColumnWidths);
+            var pageConfiguration = this.pdfCommons.getPageConfiguration();
+            if (pageConfiguration != null) {
+                var tableWidth = pageConfiguration.getUtilizableWidth();
+                widths = resolveColumnWidths(widths, this.autoColumnWidths, tableWidth);
+                tableEditor.setColumnsWidth(widths);
+                var total = 0f;
+                for (float width : widths) {
+                    total += width;
+                }
+                // every column reached the maximum width, so the table is narrower than the page
+                tableEditor.getElement().setLockedWidth(total < tableWidth - 0.01f);
+            } else {
+                tableEditor.setColumnsWidth(widths);
+            }
+        }
 
-        createHeader(objectFields, tableEditor);
-        addItemsToTable(objectFields, tableEditor);
+        createHeader(columns, tableEditor);
+        addItemsToTable(columns, tableEditor);
 
         return tableEditor;
     }
 
     /**
-     * This method is used to create the header of the table.
+     * This method is used to resolve the columns of the table.
+     * The fields, names and accessors of the object class are read once and cached per class,
+     * only the custom extractors are applied per table.
      *
-     * @param objectFields The fields of the object.
-     * @param tableEditor  A table editor to add the header.
+     * @return The columns of the table, in the order the fields are declared.
      */
-    private void createHeader(List<Field> objectFields, PdfPTableEditor tableEditor) {
-        objectFields.stream()
-                .map(PdfAnnotationsProcessor::getFieldName)
-                .map(nome -> this.style.getHeaderRowCellStyle().apply(nome))
-                .forEach(tableEditor::add);
+    public List<DataTableColumn<T>> resolveColumns() {
+        return DataTableColumnPlan.of(this.objectClass).resolve(this.customExtractor);
     }
 
     /**
-     * This method is used to add the items of the list to the table.
+     * This method is used to measure the widths of the columns from the header and a sample of the rows, with the
+     * fonts of their cells, clamped between the minimum and the maximum width.
      *
-     * @param objectFields The fields of the object.
-     * @param tableEditor  A table editor to add the items.
+     * @param columns          The columns of the table.
+     * @param autoColumnWidths The configuration of the widths.
+     * @return The widths of the columns, in points.
      */
-    private void addItemsToTable(List<Field> objectFields, PdfPTableEditor tableEditor) {
-        for (int i = 0; i < this.items.size(); i++) {
+    float[] measureColumnWidths(List<DataTableColumn<T>> columns, AutoColumnWidths autoColumnWidths) {
+        var defaultFont = this.pdfCommons.getDefaultFont();
+        var widths = new float[columns.size()];
+        for (int c = 0; c < widths.length; c++) {
+            widths[c] = this.style.getHeaderRowCellStyle().apply(columns.get(c).getHeader()).measure(defaultFont);
+        }
+        var size = this.items.size();
+        var sampleSize = autoColumnWidths.getSampleSize();
+        var rows = sampleSize <= 0 || sampleSize >= size ? size : sampleSize;
+        for (int r = 0; r < rows; r++) {
+            // the sampled rows are spread over the table
+            var i = (int) ((long) r * size / rows);
             T item = this.items.get(i);
             final var defaultRowInfo = new DataTableStyle.CellInfo("", i);
-            for (Field field : objectFields) {
-                var value = this.getFieldValue(item, field);
-                var rowInfo = defaultRowInfo.withRowData(value);
-                tableEditor.add(this.style.getBodyRowCellStyle().apply(rowInfo));
+            for (int c = 0; c < widths.length; c++) {
+                var rowInfo = defaultRowInfo.withRowData(columns.get(c).extract(item));
+                widths[c] = Math.max(widths[c], this.style.getBodyRowCellStyle().apply(rowInfo).measure(defaultFont));
+            }
+        }
+        for (int c = 0; c < widths.length; c++) {
+            widths[c] = Math.min(autoColumnWidths.getMaximumWidth(), Math.max(autoColumnWidths.getMinimumWidth(), widths[c]));
+        }
+        return widths;
+    }
+
+    /**
+     * This method is used to fit the measured widths of the columns to the width of the table.
+     * When the measured widths do not fit, every column keeps the minimum width and the rest of the table is shared
+     * in proportion to the width each column needs over the minimum. When they fit, the rest of the table is shared in
+     * proportion to the widths, up to the maximum width.
+     *
+     * @param measured         The measured widths of the columns, in points, between the minimum and the maximum.
+     * @param autoColumnWidths The configuration of the widths.
+     * @param tableWidth       The width of the table, in points.
+     * @return The widths of the columns, in points, whose sum is the width of the table unless every column has the
+     * maximum width.
+     */
+    static float[] resolveColumnWidths(float[] measured, AutoColumnWidths autoColumnWidths, float tableWidth) {
+        var widths = measured.clone();
+        var minimum = autoColumnWidths.getMinimumWidth();
+        var maximum = autoColumnWidths.getMaximumWidth();
+        var total = 0f;
+        for (float width : widths) {
+            total += width;
+        }
+        if (total > tableWidth) {
+            var free = tableWidth - minimum * widths.length;
+            if (free <= 0) {
+                // not even the minimum widths fit
+                Arrays.fill(widths, tableWidth / widths.length);
+                return widths;
+            }
+            var needed = total - minimum * widths.length;
+            for (int c = 0; c < widths.length; c++) {
+                widths[c] = minimum + free * (widths[c] - minimum) / needed;
+            }
+            return widths;
+        }
+        var free = tableWidth - total;
+        while (free > 0.01f) {
+            var growing = 0f;
+            for (float width : widths) {
+                if (width < maximum) {
+                    growing += width;
+                }
+            }
+            if (growing <= 0) {
+                break;
+            }
+            var shared = free;
+            for (int c = 0; c < widths.length; c++) {
+                if (widths[c] < maximum) {
+                    var width = Math.min(maximum, widths[c] + shared * widths[c] / growing);
+                    free -= width - widths[c];
+                    widths[c] = width;
+                }
             }
         }
+        return widths;
     }
 
     /**
-     * This method is used to get the value of a field of an object.
+     * This method is used to create the header of the table.
+     *
+     * @param columns     The columns of the table.
+     * @param tableEditor A table editor to add the header.
+     */
+    private void createHeader(List<DataTableColumn<T>> columns, PdfPTableEditor tableEditor) {
+        for (DataTableColumn<T> column : columns) {
+            tableEditor.add(this.style.getHeaderRowCellStyle().apply(column.getHeader()));
+        }
+    }
+
+    /**
+     * This method is used to add the items of the list to the table.
+     * When a parallel executor is set, the cells are created in chunks by the executor
+     * and added to the table in the order of the items.
      *
-     * @param item  The object.
-     * @param field The field.
-     * @return The value of the field.
+     * @param columns     The columns of the table.
+     * @param tableEditor A table editor to add the items.
      */
-    private String getFieldValue(T item, Field field) {
-        var ext = customExtractor.get(field.getName());
-        if (ext != null) {
-            return ext.apply(item);
+    private void addItemsToTable(List<DataTableColumn<T>> columns, PdfPTableEditor tableEditor) {
+        if (this.parallelExecutor == null || this.items.size() <= this.parallelChunkSize) {
+            for (int i = 0; i < this.items.size(); i++) {
+                addRow(columns, tableEditor, i);
+            }
+            return;
         }
-        field.setAccessible(true);
+        var chunks = new ArrayList<CompletableFuture<PdfPCell[]>>();
+        for (int from = 0; from < this.items.size(); from += this.parallelChunkSize) {
+            final var start = from;
+            final var end = Math.min(from + this.parallelChunkSize, this.items.size());
+            chunks.add(CompletableFuture.supplyAsync(() -> createCells(columns, tableEditor, start, end), this.parallelExecutor));
+        }
+        for (CompletableFuture<PdfPCell[]> chunk : chunks) {
+            tableEditor.appendCells(joinChunk(chunk));
+        }
+    }
+
+    /**
+     * This method is used to add an item of the list to the table.
+     *
+     * @param columns     The columns of the table.
+     * @param tableEditor A table editor to add the item.
+     * @param rowIndex    The index of the item.
+     */
+    private void addRow(List<DataTableColumn<T>> columns, PdfPTableEditor tableEditor, int rowIndex) {
+        T item = this.items.get(rowIndex);
+        final var defaultRowInfo = new DataTableStyle.CellInfo("", rowIndex);
+        for (DataTableColumn<T> column : columns) {
+            var rowInfo = defaultRowInfo.withRowData(column.extract(item));
+            tableEditor.add(this.style.getBodyRowCellStyle().apply(rowInfo));
+        }
+    }
+
+    /**
+     * This method is used to create the cells of a range of items, without adding them to the table.
+     *
+     * @param columns     The columns of the table.
+     * @param tableEditor A table editor used to create the cells.
+     * @param start       The index of the first item, inclusive.
+     * @param end         The index of the last item, exclusive.
+     * @return The cells of the items, row by row.
+     */
+    private PdfPCell[] createCells(List<DataTableColumn<T>> columns, PdfPTableEditor tableEditor, int start, int end) {
+        var cells = new PdfPCell[(end - start) * columns.size()];
+        var index = 0;
+        for (int i = start; i < end; i++) {
+            T item = this.items.get(i);
+            final var defaultRowInfo = new DataTableStyle.CellInfo("", i);
+            for (int c = 0; c < columns.size(); c++) {
+                var rowInfo = defaultRowInfo.withRowData(columns.get(c).extract(item));
+                cells[index++] = tableEditor.createCell(this.style.getBodyRowCellStyle().apply(rowInfo), c);
+            }
+        }
+        return cells;
+    }
+
+    private static PdfPCell[] joinChunk(CompletableFuture<PdfPCell[]> chunk) {
         try {
-            return Optional.ofNullable(field.get(item))
-                    .map(Object::toString)
-                    .orElse("NULL");
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
+            return chunk.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
     }
 
+    /**
+     * The alignment of the data table does not change the generated rows,
+     * so the copy shares the table already generated by this instance.
+     */
     @Override
     public AbstractElement<PdfPTable> withHorizontalAlignment(@Nonnull HorizontalAlignment horizontalAlignment) {
         return new DataTable<>(
@@ -152,10 +413,18 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
                 this.objectClass,
                 this.style,
                 horizontalAlignment,
-                this.getVerticalAlignment()
+                this.getVerticalAlignment(),
+                this.parallelExecutor,
+                this.parallelChunkSize,
+                this.autoColumnWidths,
+                this.generated
         );
     }
 
+    /**
+     * The alignment of the data table does not change the generated rows,
+     * so the copy shares the table already generated by this instance.
+     */
     @Override
     public AbstractElement<PdfPTable> withVerticalAlignment(@Nonnull VerticalAlignment verticalAlignment) {
         return new DataTable<>(
@@ -165,13 +434,68 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
                 this.objectClass,
                 this.style,
                 this.getHorizontalAlignment(),
-                verticalAlignment
+                verticalAlignment,
+                this.parallelExecutor,
+                this.parallelChunkSize,
+                this.autoColumnWidths,
+                this.generated
         );
     }
 
+    /**
+     * This method is used to get the table.
+     * The table is generated on the first call and the same instance is returned by the next calls,
+     * until {@link #invalidate()} is called.
+     *
+     * @return A table with the data of the list of objects.
+     */
     @Override
     public PdfPTable getElement() {
-        return generateTable().getElement();
+        return this.generated.get(this);
+    }
+
+    /**
+     * This method is used to discard the generated table, so the next call to {@link #getElement()} generates it
+     * again. It must be called when the items are changed after the table was generated.
+     */
+    public void invalidate() {
+        this.generated.clear();
+    }
+
+    /**
+     * This method is used to discard the generated table and generate it again.
+     *
+     * @return The new table.
+     */
+    public PdfPTable rebuild() {
+        this.invalidate();
+        return this.getElement();
+    }
+
+    /**
+     * Holds the table generated by a data table. It is generated at most once, even when
+     * {@link #getElement()} is called concurrently.
+     */
+    private static final class GeneratedTable {
+        private volatile PdfPTable table;
+
+        private PdfPTable get(DataTable<?> dataTable) {
+            var result = this.table;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.table;
+                    if (result == null) {
+                        result = dataTable.generateTable().getElement();
+                        this.table = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private synchronized void clear() {
+            this.table = null;
+        }
     }
 
 
@@ -181,6 +505,10 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
         private Map<String, Function<T, String>> customExtractor;
         private Class<T> objectClass;
         private DataTableStyle style;
+        private Executor parallelExecutor;
+        private int parallelChunkSize = DEFAULT_PARALLEL_CHUNK_SIZE;
+        private AutoColumnWidths autoColumnWidths;
+        private final Map<String, Function<T, String>> typedColumns = new LinkedHashMap<>();
 
         /**
          * @return {@code this}.
@@ -237,6 +565,175 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
             return self();
         }
 
+        /**
+         * Sets the extractor of the column of a field. It has precedence over {@link #customExtractor(Map)}.
+         * The table is not built if the field is not a column of the class.
+         *
+         * @param name      The name of the field of the column.
+         * @param extractor The extractor of the column.
+         * @return {@code this}.
+         */
+        public B column(@Nonnull final String name, @Nonnull final Function<T, String> extractor) {
+            this.typedColumns.put(name, extractor);
+            return self();
+        }
+
+        /**
+         * Reads the column of a field as an int, without boxing.
+         *
+         * @param name   The name of the field of the column.
+         * @param getter The getter of the value.
+         * @return {@code this}.
+         */
+        public B intColumn(@Nonnull final String name, @Nonnull final ToIntFunction<T> getter) {
+            return this.column(name, ColumnExtractors.ofInt(getter));
+        }
+
+        /**
+         * Reads the column of a field as an int, without boxing, and formats it with a {@link java.text.DecimalFormat} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @return {@code this}.
+         */
+        public B intColumn(@Nonnull final String name, @Nonnull final ToIntFunction<T> getter, @Nonnull final String pattern) {
+            return this.column(name, ColumnExtractors.ofInt(getter, pattern, Locale.getDefault(Locale.Category.FORMAT)));
+        }
+
+        /**
+         * Reads the column of a field as a long, without boxing.
+         *
+         * @param name   The name of the field of the column.
+         * @param getter The getter of the value.
+         * @return {@code this}.
+         */
+        public B longColumn(@Nonnull final String name, @Nonnull final ToLongFunction<T> getter) {
+            return this.column(name, ColumnExtractors.ofLong(getter));
+        }
+
+        /**
+         * Reads the column of a field as a long, without boxing, and formats it with a {@link java.text.DecimalFormat} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @return {@code this}.
+         */
+        public B longColumn(@Nonnull final String name, @Nonnull final ToLongFunction<T> getter, @Nonnull final String pattern) {
+            return this.column(name, ColumnExtractors.ofLong(getter, pattern, Locale.getDefault(Locale.Category.FORMAT)));
+        }
+
+        /**
+         * Reads the column of a field as a double, without boxing, and formats it with a {@link java.text.DecimalFormat} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @return {@code this}.
+         */
+        public B doubleColumn(@Nonnull final String name, @Nonnull final ToDoubleFunction<T> getter, @Nonnull final String pattern) {
+            return this.doubleColumn(name, getter, pattern, Locale.getDefault(Locale.Category.FORMAT));
+        }
+
+        /**
+         * Reads the column of a field as a double, without boxing, and formats it with a {@link java.text.DecimalFormat} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @param locale  The locale of the symbols of the pattern.
+         * @return {@code this}.
+         */
+        public B doubleColumn(
+                @Nonnull final String name,
+                @Nonnull final ToDoubleFunction<T> getter,
+                @Nonnull final String pattern,
+                @Nonnull final Locale locale
+        ) {
+            return this.column(name, ColumnExtractors.ofDouble(getter, pattern, locale));
+        }
+
+        /**
+         * Reads the column of a field as a date, a time or a date time, and formats it with a
+         * {@link java.time.format.DateTimeFormatter} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @return {@code this}.
+         */
+        public B dateColumn(@Nonnull final String name, @Nonnull final Function<T, ? extends TemporalAccessor> getter, @Nonnull final String pattern) {
+            return this.dateColumn(name, getter, pattern, Locale.getDefault(Locale.Category.FORMAT));
+        }
+
+        /**
+         * Reads the column of a field as a date, a time or a date time, and formats it with a
+         * {@link java.time.format.DateTimeFormatter} pattern.
+         *
+         * @param name    The name of the field of the column.
+         * @param getter  The getter of the value.
+         * @param pattern The pattern of the value.
+         * @param locale  The locale of the formatter.
+         * @return {@code this}.
+         */
+        public B dateColumn(
+                @Nonnull final String name,
+                @Nonnull final Function<T, ? extends TemporalAccessor> getter,
+                @Nonnull final String pattern,
+                @Nonnull final Locale locale
+        ) {
+            return this.column(name, ColumnExtractors.ofTemporal(getter, pattern, locale));
+        }
+
+        /**
+         * Creates the cells of the rows in parallel, using the {@link ForkJoinPool#commonPool()}.
+         * The style functions and the custom extractors must be safe to be called from several threads.
+         *
+         * @return {@code this}.
+         */
+        public B parallel() {
+            return this.parallelExecutor(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Creates the cells of the rows in parallel, using the given executor.
+         * The style functions and the custom extractors must be safe to be called from several threads.
+         *
+         * @return {@code this}.
+         */
+        public B parallelExecutor(@Nullable final Executor parallelExecutor) {
+            this.parallelExecutor = parallelExecutor;
+            return self();
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public B parallelChunkSize(final int parallelChunkSize) {
+            this.parallelChunkSize = parallelChunkSize;
+            return self();
+        }
+
+        /**
+         * Computes the widths of the columns from their content, measuring a sample of the rows.
+         *
+         * @return {@code this}.
+         */
+        public B autoColumnWidths() {
+            return this.autoColumnWidths(new AutoColumnWidths());
+        }
+
+        /**
+         * Computes the widths of the columns from their content, or gives the same width to every column when null.
+         *
+         * @return {@code this}.
+         */
+        public B autoColumnWidths(@Nullable final AutoColumnWidths autoColumnWidths) {
+            this.autoColumnWidths = autoColumnWidths;
+            return self();
+        }
+
         @Override
         protected abstract B self();
 
@@ -245,7 +742,7 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
 
         @Override
         public String toString() {
-            return "DataTable.DataTableBuilder(super=" + super.toString() + ", pdfCommons=" + this.pdfCommons + ", items=" + this.items + ", customExtractor=" + this.customExtractor + ", objectClass=" + this.objectClass + ", style=" + this.style + ")";
+            return "DataTable.DataTableBuilder(super=" + super.toString() + ", pdfCommons=" + this.pdfCommons + ", items=" + this.items + ", customExtractor=" + this.customExtractor + ", objectClass=" + this.objectClass + ", style=" + this.style + ", parallelExecutor=" + this.parallelExecutor + ", parallelChunkSize=" + this.parallelChunkSize + ", autoColumnWidths=" + this.autoColumnWidths + ", typedColumns=" + this.typedColumns + ")";
         }
     }
 
@@ -275,18 +772,37 @@ public class DataTable<T> extends AbstractElement<PdfPTable> {
         if (items == null) {
             throw new NullPointerException("items is marked non-null but is null");
         }
-        this.customExtractor = b.customExtractor;
-        if (customExtractor == null) {
+        if (b.customExtractor == null) {
             throw new NullPointerException("customExtractor is marked non-null but is null");
         }
+        if (b.typedColumns.isEmpty()) {
+            this.customExtractor = b.customExtractor;
+        } else {
+            var extractors = new HashMap<>(b.customExtractor);
+            extractors.putAll(b.typedColumns);
+            this.customExtractor = Collections.unmodifiableMap(extractors);
+        }
         this.objectClass = b.objectClass;
         if (objectClass == null) {
             throw new NullPointerException("objectClass is marked non-null but is null");
         }
+        var plan = DataTableColumnPlan.of(objectClass);
+        for (String name : b.typedColumns.keySet()) {
+            if (!plan.hasColumn(name)) {
+                throw new IllegalArgumentException("The class " + objectClass.getName() + " has no column " + name);
+            }
+        }
         this.style = b.style;
         if (style == null) {
             throw new NullPointerException("style is marked non-null but is null");
         }
+        this.parallelExecutor = b.parallelExecutor;
+        this.parallelChunkSize = b.parallelChunkSize;
+        this.autoColumnWidths = b.autoColumnWidths;
+        this.generated = new GeneratedTable();
+        if (parallelChunkSize <= 0) {
+            throw new IllegalArgumentException("parallelChunkSize must be greater than zero");
+        }
     }
 
     public static <T> DataTableBuilder<T> builder() {
@@ -0,0 +1,53 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * This is an interface for the adapters that give the columns of a class to a {@link DataTable} without reflection.
+ * <p>
+ * The adapters are generated at compile time by the {@code simple-pdf-processor} annotation processor, for the
+ * classes with fields annotated with {@link dev.lucasmendes.simple_pdf.annotations.PdfName} or
+ * {@link dev.lucasmendes.simple_pdf.annotations.PdfIgnore}. When the adapter of a class is present, it is used
+ * by {@link DataTable} instead of reading the fields of the class.
+ *
+ * @param <T> The type of the objects in the table.
+ */
+public interface DataTableAdapter<T> {
+    /**
+     * The suffix of the name of the generated adapters.
+     * The adapter of {@code com.example.Outer$Inner} is {@code com.example.Outer_Inner_DataTableAdapter}.
+     */
+    String SUFFIX = "_DataTableAdapter";
+
+    /**
+     * This method is used to get the columns of the class, in the order the fields are declared.
+     *
+     * @return The columns of the class.
+     */
+    List<DataTableColumn<T>> getColumns();
+
+    /**
+     * This method is used to get the name of the adapter generated for a class.
+     *
+     * @param className The binary name of the class.
+     * @return The binary name of the adapter.
+     */
+    static String adapterClassName(@Nonnull String className) {
+        var packageEnd = className.lastIndexOf('.');
+        var packagePrefix = className.substring(0, packageEnd + 1);
+        var simpleName = className.substring(packageEnd + 1).replace('$', '_');
+        return packagePrefix + simpleName + SUFFIX;
+    }
+
+    /**
+     * This method is used to convert the value of a field to the text of a cell.
+     *
+     * @param value The value of the field.
+     * @return The text of the value, or "NULL" if the value is null.
+     */
+    static String text(@Nullable Object value) {
+        return value == null ? ColumnExtractors.NULL_VALUE : value.toString();
+    }
+}
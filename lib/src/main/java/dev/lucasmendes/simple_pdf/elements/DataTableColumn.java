@@ -0,0 +1,43 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import lombok.Data;
+
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+
+/**
+ * This class represents a resolved column of a {@link DataTable}.
+ * It holds the header label and the function used to extract the text of each cell.
+ *
+ * @param <T> The type of the objects in the table.
+ */
+@Data
+public class DataTableColumn<T> {
+    /**
+     * The name of the field the column was created from.
+     */
+    @Nonnull
+    private final String name;
+
+    /**
+     * The label shown in the header of the column.
+     */
+    @Nonnull
+    private final String header;
+
+    /**
+     * The function used to extract the text of a cell from an item.
+     */
+    @Nonnull
+    private final Function<T, String> extractor;
+
+    /**
+     * This method is used to extract the text of the cell of this column for an item.
+     *
+     * @param item The item of the row.
+     * @return The text of the cell.
+     */
+    public String extract(T item) {
+        return this.extractor.apply(item);
+    }
+}
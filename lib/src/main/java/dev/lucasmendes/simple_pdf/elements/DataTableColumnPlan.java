@@ -0,0 +1,277 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import dev.lucasmendes.simple_pdf.annotations.PdfAnnotationsProcessor;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This class holds the columns of a {@link DataTable} for a given class.
+ * The plan is built once per class, from the {@link DataTableAdapter} generated for the class when it is present,
+ * or else by reading the fields and the annotations of the class. It is shared by every table that renders
+ * objects of that class.
+ */
+@Getter
+final class DataTableColumnPlan {
+    private static final ClassValue<DataTableColumnPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected DataTableColumnPlan computeValue(Class<?> type) {
+            return new DataTableColumnPlan(type);
+        }
+    };
+
+    /**
+     * The columns of the class, in the order the fields are declared.
+     */
+    private final List<Column> columns;
+
+    private DataTableColumnPlan(Class<?> type) {
+        var adapter = findAdapter(type);
+        this.columns = Collections.unmodifiableList(adapter != null ? adapterColumns(adapter) : reflectionColumns(type));
+    }
+
+    /**
+     * This method is used to read the columns of a class from its fields and annotations.
+     *
+     * @param type The class of the objects in the table.
+     * @return The columns of the class.
+     */
+    private static List<Column> reflectionColumns(Class<?> type) {
+        var lookup = privateLookup(type);
+        var resolved = new ArrayList<Column>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || PdfAnnotationsProcessor.ignore(field)) {
+                continue;
+            }
+            final var accessor = createAccessor(type, field, lookup);
+            resolved.add(new Column(
+                    field.getName(),
+                    PdfAnnotationsProcessor.getFieldName(field),
+                    item -> DataTableAdapter.text(accessor.apply(item))
+            ));
+        }
+        return resolved;
+    }
+
+    /**
+     * This method is used to read the columns of a class from its generated adapter.
+     *
+     * @param adapter The adapter of the class.
+     * @return The columns of the class.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Column> adapterColumns(DataTableAdapter<?> adapter) {
+        var resolved = new ArrayList<Column>();
+        for (DataTableColumn<?> column : adapter.getColumns()) {
+            resolved.add(new Column(
+                    column.getName(),
+                    column.getHeader(),
+                    ((DataTableColumn<Object>) column).getExtractor()
+            ));
+        }
+        return resolved;
+    }
+
+    /**
+     * This method is used to find the adapter generated at compile time for a class.
+     *
+     * @param type The class of the objects in the table.
+     * @return The adapter of the class, or null if no adapter was generated.
+     */
+    @Nullable
+    private static DataTableAdapter<?> findAdapter(Class<?> type) {
+        try {
+            var adapterClass = Class.forName(DataTableAdapter.adapterClassName(type.getName()), true, type.getClassLoader());
+            if (!DataTableAdapter.class.isAssignableFrom(adapterClass)) {
+                return null;
+            }
+            return (DataTableAdapter<?>) adapterClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * This method is used to get the plan of a class.
+     *
+     * @param type The class of the objects in the table.
+     * @return The plan of the class.
+     */
+    static DataTableColumnPlan of(@Nonnull Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * This method is used to check if the class has the column of a field.
+     *
+     * @param fieldName The name of the field.
+     * @return True if the field is a column of the class.
+     */
+    boolean hasColumn(@Nonnull String fieldName) {
+        for (Column column : this.columns) {
+            if (column.getFieldName().equals(fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method is used to resolve the columns of a table, applying the custom extractors over the plan.
+     *
+     * @param customExtractor The custom extractors of the table, by field name.
+     * @param <T>             The type of the objects in the table.
+     * @return The columns of the table, in the order the fields are declared.
+     */
+    <T> List<DataTableColumn<T>> resolve(@Nonnull Map<String, Function<T, String>> customExtractor) {
+        var resolved = new ArrayList<DataTableColumn<T>>(this.columns.size());
+        for (Column column : this.columns) {
+            var extractor = customExtractor.get(column.getFieldName());
+            resolved.add(new DataTableColumn<>(
+                    column.getFieldName(),
+                    column.getHeader(),
+                    extractor != null ? extractor : column::read
+            ));
+        }
+        return resolved;
+    }
+
+    /**
+     * This method is used to create the fastest available accessor for a field.
+     * The components of records are read with their accessor methods, bound with {@link LambdaMetafactory}. The
+     * fields of other classes are read as they are, with a {@link MethodHandle} and, as a last resort, with reflection,
+     * so getters that format or load the value are not called.
+     *
+     * @param type   The class that declares the field.
+     * @param field  The field to be read.
+     * @param lookup A lookup with private access to the class, or null if it is not available.
+     * @return A function that reads the field of an object.
+     */
+    private static Function<Object, Object> createAccessor(Class<?> type, Field field, @Nullable MethodHandles.Lookup lookup) {
+        if (lookup != null) {
+            var method = findRecordAccessor(type, field);
+            if (method != null) {
+                try {
+                    return bindAccessorMethod(type, method, lookup);
+                } catch (Throwable ignore) {
+                    // falls back to the field getter
+                }
+            }
+            try {
+                return bindFieldGetter(lookup.unreflectGetter(field));
+            } catch (IllegalAccessException ignore) {
+                // falls back to reflection
+            }
+        }
+        field.setAccessible(true);
+        return item -> {
+            try {
+                return field.get(item);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * This method is used to find the accessor method of a record component ({@code name()}).
+     * The library targets Java 11, so records are recognized by the name of their superclass.
+     *
+     * @param type  The class that declares the field.
+     * @param field The field.
+     * @return The accessor method, or null if the class is not a record.
+     */
+    @Nullable
+    private static Method findRecordAccessor(Class<?> type, Field field) {
+        var superclass = type.getSuperclass();
+        if (superclass == null || !"java.lang.Record".equals(superclass.getName())) {
+            return null;
+        }
+        try {
+            var method = type.getDeclaredMethod(field.getName());
+            return method.getReturnType() == field.getType() ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> bindAccessorMethod(
+            Class<?> type,
+            Method method,
+            MethodHandles.Lookup lookup
+    ) throws Throwable {
+        var handle = lookup.unreflect(method);
+        var returnType = MethodType.methodType(method.getReturnType()).wrap().returnType();
+        var callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                MethodType.methodType(returnType, type)
+        );
+        return (Function<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    private static Function<Object, Object> bindFieldGetter(MethodHandle getter) {
+        final var handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+        return item -> {
+            try {
+                return handle.invokeExact(item);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    @Nullable
+    private static MethodHandles.Lookup privateLookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A column of the plan, with its pre-resolved header and reader.
+     */
+    @Getter
+    static final class Column {
+        private final String fieldName;
+        private final String header;
+        private final Function<Object, String> reader;
+
+        private Column(String fieldName, String header, Function<Object, String> reader) {
+            this.fieldName = fieldName;
+            this.header = header;
+            this.reader = reader;
+        }
+
+        /**
+         * This method is used to read the text of this column for an item.
+         *
+         * @param item The item of the row.
+         * @return The text of the field, or "NULL" if the field is null.
+         */
+        String read(Object item) {
+            return this.reader.apply(item);
+        }
+    }
+}
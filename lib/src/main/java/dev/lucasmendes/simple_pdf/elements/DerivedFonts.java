@@ -0,0 +1,62 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Font;
+import lombok.Data;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.awt.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is a cache of the variants of the OpenPDF fonts, with a size, a style and a color.
+ * <p>
+ * Each variant is created once, from a copy of the base font, and is never changed after it is cached, so it can
+ * be shared by every document and thread. The variants are grouped by the identity of the base font, shared by
+ * a {@link SimpleFont} and all its copies, and they are removed when the base font is no longer used.
+ */
+final class DerivedFonts {
+    private static final WeakIdentityCache<Font, ConcurrentMap<Variant, Font>> FONTS = new WeakIdentityCache<>();
+
+    private DerivedFonts() {
+    }
+
+    /**
+     * This method is used to get a variant of a font.
+     *
+     * @param base  The base font, which is not changed.
+     * @param size  The size of the variant.
+     * @param style The style of the variant.
+     * @param color The color of the variant.
+     * @return The variant, which must not be changed.
+     */
+    static Font derive(@Nonnull Font base, float size, int style, @Nullable Color color) {
+        // the variants are copies that do not reference the base font, so it is still collected
+        var variants = FONTS.computeIfAbsent(base, key -> new ConcurrentHashMap<>());
+        return variants.computeIfAbsent(new Variant(size, style, color), variant -> {
+            var font = new Font(base);
+            font.setSize(variant.getSize());
+            font.setStyle(variant.getStyle());
+            font.setColor(variant.getColor());
+            return font;
+        });
+    }
+
+    /**
+     * @return The number of base fonts with cached variants.
+     */
+    static int size() {
+        return FONTS.size();
+    }
+
+    /**
+     * The size, the style and the color of a variant.
+     */
+    @Data
+    private static final class Variant {
+        private final float size;
+        private final int style;
+        private final Color color;
+    }
+}
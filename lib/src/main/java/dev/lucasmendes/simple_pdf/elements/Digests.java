@@ -0,0 +1,50 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * This class has the SHA-256 digests used to name the files of the caches and to identify the contents.
+ */
+final class Digests {
+    private Digests() {
+    }
+
+    /**
+     * @return A new SHA-256 digest.
+     */
+    @Nonnull
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * This method is used to get the SHA-256 digest of a text, in hexadecimal.
+     *
+     * @param value The text, encoded in UTF-8.
+     * @return The digest, in lowercase hexadecimal.
+     */
+    @Nonnull
+    static String sha256Hex(@Nonnull String value) {
+        return hex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param bytes The bytes.
+     * @return The bytes in lowercase hexadecimal.
+     */
+    @Nonnull
+    static String hex(@Nonnull byte[] bytes) {
+        var hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xf, 16)).append(Character.forDigit(value & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,207 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.BaseFont;
+import dev.lucasmendes.simple_pdf.enums.EvictionPolicy;
+import dev.lucasmendes.simple_pdf.enums.FontLoading;
+import lombok.Data;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a bounded cache of the fonts loaded from files, shared by every document and thread.
+ * <p>
+ * The fonts are keyed by the absolute path of the file, the encoding, the embedding and the {@link FontLoading},
+ * and each font file is parsed once while it stays in the cache, even when it is requested by several threads at
+ * the same time.
+ * When the cache is full, the font chosen by the {@link EvictionPolicy} is removed, and the documents that
+ * still use it keep their reference.
+ * <p>
+ * The fonts are created without the internal cache of {@link BaseFont}, which is never cleared.
+ */
+public class FontCache {
+    /**
+     * The default maximum number of fonts in a cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private static volatile FontCache global = new FontCache(DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LEAST_RECENTLY_USED);
+
+    @Getter
+    private final int maximumSize;
+    @Getter
+    private final EvictionPolicy evictionPolicy;
+    private final Map<Key, CompletableFuture<BaseFont>> fonts;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public FontCache(int maximumSize, @Nonnull EvictionPolicy evictionPolicy) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        var accessOrder = evictionPolicy == EvictionPolicy.LEAST_RECENTLY_USED;
+        this.fonts = new LinkedHashMap<>(16, 0.75f, accessOrder) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<BaseFont>> eldest) {
+                var full = this.size() > FontCache.this.maximumSize;
+                if (full) {
+                    FontCache.this.evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * This method is used to get the cache used by {@link SimpleFont#fromFile(Path)}.
+     *
+     * @return The global cache.
+     */
+    public static FontCache global() {
+        return global;
+    }
+
+    /**
+     * This method is used to replace the cache used by {@link SimpleFont#fromFile(Path)}, to change its size or
+     * its eviction policy. The fonts of the previous cache are not copied.
+     *
+     * @param cache The new global cache.
+     */
+    public static void setGlobal(@Nonnull FontCache cache) {
+        global = cache;
+    }
+
+    /**
+     * This method is used to get a memory-mapped font from the cache, parsing the file if it is not in the cache.
+     *
+     * @param fontFile The font file.
+     * @param encoding The encoding of the font, like {@link BaseFont#IDENTITY_H}.
+     * @param embedded If the font is embedded in the documents.
+     * @return The font.
+     * @throws IOException If the font file could not be read.
+     */
+    public BaseFont get(@Nonnull Path fontFile, @Nonnull String encoding, boolean embedded) throws IOException {
+        return this.get(fontFile, encoding, embedded, FontLoading.MEMORY_MAPPED);
+    }
+
+    /**
+     * This method is used to get a font from the cache, parsing the file if it is not in the cache.
+     *
+     * @param fontFile The font file.
+     * @param encoding The encoding of the font, like {@link BaseFont#IDENTITY_H}.
+     * @param embedded If the font is embedded in the documents.
+     * @param loading  The way the tables of the file are read.
+     * @return The font.
+     * @throws IOException If the font file could not be read.
+     */
+    public BaseFont get(
+            @Nonnull Path fontFile,
+            @Nonnull String encoding,
+            boolean embedded,
+            @Nonnull FontLoading loading
+    ) throws IOException {
+        var key = new Key(fontFile.toAbsolutePath().normalize().toString(), encoding, embedded, loading);
+        CompletableFuture<BaseFont> font;
+        var load = false;
+        synchronized (this.fonts) {
+            font = this.fonts.get(key);
+            if (font == null) {
+                font = new CompletableFuture<>();
+                this.fonts.put(key, font);
+                load = true;
+            }
+        }
+        if (load) {
+            this.misses.increment();
+            try {
+                var forceRead = loading == FontLoading.HEAP;
+                font.complete(BaseFont.createFont(key.getPath(), encoding, embedded, false, null, null, false, forceRead));
+            } catch (IOException | RuntimeException e) {
+                font.completeExceptionally(e);
+                synchronized (this.fonts) {
+                    this.fonts.remove(key, font);
+                }
+                throw e;
+            }
+        } else {
+            this.hits.increment();
+        }
+        try {
+            return font.join();
+        } catch (CompletionException e) {
+            // the font was loaded by another thread, and it failed
+            if (e.getCause() instanceof IOException) {
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * This method is used to remove every font from the cache. The counters are not reset.
+     */
+    public void clear() {
+        synchronized (this.fonts) {
+            this.fonts.clear();
+        }
+    }
+
+    /**
+     * @return The number of fonts in the cache.
+     */
+    public int size() {
+        synchronized (this.fonts) {
+            return this.fonts.size();
+        }
+    }
+
+    /**
+     * @return The number of requests answered by the cache.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return The number of requests that parsed a font file.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return The number of fonts removed because the cache was full.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "FontCache(maximumSize=" + this.maximumSize + ", evictionPolicy=" + this.evictionPolicy + ", size=" + this.size() + ", hits=" + this.getHits() + ", misses=" + this.getMisses() + ", evictions=" + this.getEvictions() + ")";
+    }
+
+    /**
+     * The key of a font in the cache.
+     */
+    @Data
+    private static final class Key {
+        private final String path;
+        private final String encoding;
+        private final boolean embedded;
+        private final FontLoading loading;
+    }
+}
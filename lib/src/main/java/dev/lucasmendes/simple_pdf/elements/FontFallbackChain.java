@@ -0,0 +1,181 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is a primary font followed by the fonts used for the characters it cannot display.
+ * <p>
+ * The font of each character of the Basic Multilingual Plane is resolved once, from the coverage of the
+ * {@link FontMetrics} of the fonts, into a table indexed by the character. A text is then split into runs of the same
+ * font with one lookup per character. The characters no font can display, and the ones outside the Basic Multilingual
+ * Plane, use the primary font. The table is shared by the chains of the same base fonts, whatever their size, style or
+ * color, and is kept while the base font of the primary font is in use.
+ * <p>
+ * The fallback fonts take the size, the style and the color of the primary font.
+ */
+public final class FontFallbackChain {
+    private static final int CHARACTERS = 0x10000;
+    private static final int MAXIMUM_FONTS = Byte.MAX_VALUE;
+    private static final WeakIdentityCache<BaseFont, Map<List<BaseFont>, byte[]>> ROUTES = new WeakIdentityCache<>();
+
+    /**
+     * The primary font followed by the fallback fonts.
+     */
+    @Getter
+    @Nonnull
+    private final List<SimpleFont> fonts;
+    private final SimpleFont[] resolved;
+    private final byte[] routes;
+
+    private FontFallbackChain(@Nonnull List<SimpleFont> fonts, @Nonnull byte[] routes) {
+        this.fonts = Collections.unmodifiableList(fonts);
+        this.resolved = fonts.toArray(new SimpleFont[0]);
+        this.routes = routes;
+    }
+
+    /**
+     * This method is used to create the chain of a font.
+     *
+     * @param primary   The font used for the characters it can display.
+     * @param fallbacks The fonts used, in order, for the characters the primary font cannot display.
+     * @return The chain.
+     * @throws IllegalArgumentException If there are more than 126 fallback fonts.
+     */
+    public static FontFallbackChain of(@Nonnull SimpleFont primary, @Nonnull List<SimpleFont> fallbacks) {
+        if (fallbacks.size() >= MAXIMUM_FONTS) {
+            throw new IllegalArgumentException("A font can have at most " + (MAXIMUM_FONTS - 1) + " fallback fonts");
+        }
+        var fonts = new ArrayList<SimpleFont>(fallbacks.size() + 1);
+        fonts.add(primary);
+        for (SimpleFont fallback : fallbacks) {
+            fonts.add(fallback.withSize(primary.getSize()).withStyle(primary.getStyle()).withColor(primary.getColor()));
+        }
+        var fallbackBaseFonts = new ArrayList<BaseFont>(fallbacks.size());
+        for (int i = 1; i < fonts.size(); i++) {
+            fallbackBaseFonts.add(fonts.get(i).getOpenPdfFont().getCalculatedBaseFont(false));
+        }
+        var routes = ROUTES.computeIfAbsent(primary.getOpenPdfFont().getCalculatedBaseFont(false), baseFont -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fallbackBaseFonts, baseFonts -> routes(fonts));
+        return new FontFallbackChain(fonts, routes);
+    }
+
+    /**
+     * This method is used to resolve the font of each character of the Basic Multilingual Plane.
+     *
+     * @param fonts The primary font followed by the fallback fonts.
+     * @return The index, in the fonts, of the font of each character.
+     */
+    private static byte[] routes(@Nonnull List<SimpleFont> fonts) {
+        var metrics = new FontMetrics[fonts.size()];
+        for (int i = 0; i < metrics.length; i++) {
+            metrics[i] = fonts.get(i).getMetrics();
+        }
+        var routes = new byte[CHARACTERS];
+        for (int c = 0; c < CHARACTERS; c++) {
+            if (metrics[0].canDisplay(c)) {
+                continue;
+            }
+            for (int i = 1; i < metrics.length; i++) {
+                if (metrics[i].canDisplay(c)) {
+                    routes[c] = (byte) i;
+                    break;
+                }
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * This method is used to get the same chain with another size, sharing the resolved fonts of the characters.
+     *
+     * @param size The size of the fonts.
+     * @return The chain with the size.
+     */
+    @Nonnull
+    public FontFallbackChain withSize(float size) {
+        var fonts = new ArrayList<SimpleFont>(this.resolved.length);
+        for (SimpleFont font : this.resolved) {
+            fonts.add(font.withSize(size));
+        }
+        return new FontFallbackChain(fonts, this.routes);
+    }
+
+    /**
+     * @return The font used for the characters it can display.
+     */
+    @Nonnull
+    public SimpleFont getPrimary() {
+        return this.resolved[0];
+    }
+
+    /**
+     * This method is used to get the font that displays a character.
+     *
+     * @param character The character.
+     * @return The first font of the chain that can display the character, or the primary font if none can.
+     */
+    @Nonnull
+    public SimpleFont getFont(char character) {
+        return this.resolved[this.routes[character]];
+    }
+
+    /**
+     * This method is used to create a paragraph with the text, split into chunks of the font of their characters.
+     * A text the primary font can display is a single chunk.
+     *
+     * @param text The text.
+     * @return The paragraph.
+     */
+    @Nonnull
+    public Paragraph createParagraph(@Nonnull String text) {
+        var primary = this.resolved[0].getOpenPdfFont();
+        var length = text.length();
+        var i = 0;
+        while (i < length && this.routes[text.charAt(i)] == 0) {
+            i++;
+        }
+        if (i == length) {
+            return new Paragraph(text, primary);
+        }
+        var paragraph = new Paragraph(text.substring(0, i), primary);
+        var start = i;
+        var route = this.routes[text.charAt(i)];
+        while (++i < length) {
+            var character = text.charAt(i);
+            if (Character.isLowSurrogate(character)) {
+                // the second half of a pair stays with the first one
+                continue;
+            }
+            var next = this.routes[character];
+            if (next != route) {
+                paragraph.add(new Chunk(text.substring(start, i), this.resolved[route].getOpenPdfFont()));
+                start = i;
+                route = next;
+            }
+        }
+        paragraph.add(new Chunk(text.substring(start), this.resolved[route].getOpenPdfFont()));
+        return paragraph;
+    }
+
+    /**
+     * @return The index, in the fonts, of the font of each character.
+     */
+    byte[] getRoutes() {
+        return this.routes;
+    }
+
+    @Override
+    public String toString() {
+        return "FontFallbackChain(fonts=" + this.fonts + ")";
+    }
+}
@@ -0,0 +1,200 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.BaseFont;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds the metrics of a font needed to lay out text without the font: the width of each character of
+ * the Basic Multilingual Plane and the characters the font can display.
+ * <p>
+ * The widths are in thousandths of the font size, like the ones of {@link BaseFont#getWidth(int)}, and are read
+ * from a table indexed by the character, so measuring a text does not touch the font. The characters outside the
+ * Basic Multilingual Plane are not covered, their widths are read from the font when they are measured and kept in a
+ * small map. The metrics can be read concurrently.
+ * <p>
+ * The metrics of a {@link BaseFont} are computed once, the first time a text is measured with it, and shared, see
+ * {@link #of(BaseFont)}.
+ */
+@Getter
+public final class FontMetrics {
+    private static final int CHARACTERS = 0x10000;
+    private static final WeakIdentityCache<BaseFont, FontMetrics> METRICS = new WeakIdentityCache<>();
+
+    /**
+     * The PostScript name of the font.
+     */
+    @Nonnull
+    private final String fontName;
+    /**
+     * The ascent of the font, in thousandths of the font size.
+     */
+    private final int ascent;
+    /**
+     * The descent of the font, a negative number in thousandths of the font size.
+     */
+    private final int descent;
+    @Getter(AccessLevel.NONE)
+    private final long[] coverage;
+    @Getter(AccessLevel.NONE)
+    private final char[] widths;
+    /**
+     * The widths of the characters outside the Basic Multilingual Plane that were measured, few in most texts.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, Integer> supplementaryWidths = new ConcurrentHashMap<>();
+
+    private FontMetrics(@Nonnull String fontName, int ascent, int descent, long[] coverage, char[] widths) {
+        this.fontName = fontName;
+        this.ascent = ascent;
+        this.descent = descent;
+        this.coverage = coverage;
+        this.widths = widths;
+    }
+
+    /**
+     * This method is used to get the metrics of a font, computing them the first time.
+     *
+     * @param baseFont The font.
+     * @return The metrics of the font.
+     */
+    public static FontMetrics of(@Nonnull BaseFont baseFont) {
+        return METRICS.computeIfAbsent(baseFont, FontMetrics::compute);
+    }
+
+    private static FontMetrics compute(BaseFont baseFont) {
+        var coverage = new long[CHARACTERS / Long.SIZE];
+        var widths = new char[CHARACTERS];
+        for (int c = 0; c < CHARACTERS; c++) {
+            if (baseFont.charExists(c)) {
+                coverage[c >>> 6] |= 1L << c;
+                widths[c] = (char) Math.max(0, Math.min(Character.MAX_VALUE, baseFont.getWidth(c)));
+            }
+        }
+        return new FontMetrics(
+                baseFont.getPostscriptFontName(),
+                Math.round(baseFont.getFontDescriptor(BaseFont.ASCENT, 1000)),
+                Math.round(baseFont.getFontDescriptor(BaseFont.DESCENT, 1000)),
+                coverage,
+                widths
+        );
+    }
+
+    /**
+     * This method is used to check if the font has a glyph for a character.
+     *
+     * @param codePoint The character.
+     * @return true if the font can display the character.
+     */
+    public boolean canDisplay(int codePoint) {
+        return codePoint >= 0 && codePoint < CHARACTERS && (this.coverage[codePoint >>> 6] & (1L << codePoint)) != 0;
+    }
+
+    /**
+     * This method is used to get the width of a character.
+     *
+     * @param codePoint The character.
+     * @return The width in thousandths of the font size, or 0 if the font cannot display the character.
+     */
+    public int getWidth(int codePoint) {
+        return codePoint >= 0 && codePoint < CHARACTERS ? this.widths[codePoint] : 0;
+    }
+
+    /**
+     * This method is used to get the width of a text.
+     * The characters outside the Basic Multilingual Plane have no width, see {@link SimpleFont#measure(CharSequence)}.
+     *
+     * @param text     The text.
+     * @param fontSize The size of the font.
+     * @return The width of the text, in points.
+     */
+    public float getWidth(@Nonnull CharSequence text, float fontSize) {
+        return this.getWidth(text, 0, text.length(), null) * fontSize / 1000f;
+    }
+
+    /**
+     * This method is used to get the width of a part of a text, in thousandths of the font size.
+     *
+     * @param text     The text.
+     * @param start    The index of the first character, inclusive.
+     * @param end      The index of the last character, exclusive.
+     * @param baseFont The font used to get the width of the characters outside the Basic Multilingual Plane, or null
+     *                 to give them no width.
+     * @return The width of the part of the text.
+     */
+    long getWidth(@Nonnull CharSequence text, int start, int end, @Nullable BaseFont baseFont) {
+        long total = 0;
+        for (int i = start; i < end; i++) {
+            var character = text.charAt(i);
+            if (Character.isHighSurrogate(character) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                total += this.getSupplementaryWidth(Character.toCodePoint(character, text.charAt(++i)), baseFont);
+            } else {
+                total += this.widths[character];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * This method is used to get the width of a character outside the Basic Multilingual Plane from the font, once.
+     *
+     * @param codePoint The character.
+     * @param baseFont  The font, or null to give the character no width.
+     * @return The width in thousandths of the font size.
+     */
+    int getSupplementaryWidth(int codePoint, @Nullable BaseFont baseFont) {
+        var width = this.supplementaryWidths.get(codePoint);
+        if (width != null) {
+            return width;
+        }
+        if (baseFont == null) {
+            return 0;
+        }
+        return this.supplementaryWidths.computeIfAbsent(codePoint, baseFont::getWidth);
+    }
+
+    /**
+     * This method is used to get the number of characters the font can display.
+     *
+     * @return The number of characters.
+     */
+    public int getCoveredCharacters() {
+        var count = 0;
+        for (long word : this.coverage) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FontMetrics)) {
+            return false;
+        }
+        var metrics = (FontMetrics) other;
+        return this.ascent == metrics.ascent
+                && this.descent == metrics.descent
+                && this.fontName.equals(metrics.fontName)
+                && Arrays.equals(this.coverage, metrics.coverage)
+                && Arrays.equals(this.widths, metrics.widths);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.fontName.hashCode() + Arrays.hashCode(this.coverage);
+    }
+
+    @Override
+    public String toString() {
+        return "FontMetrics(fontName=" + this.fontName + ", ascent=" + this.ascent + ", descent=" + this.descent + ", coveredCharacters=" + this.getCoveredCharacters() + ")";
+    }
+}
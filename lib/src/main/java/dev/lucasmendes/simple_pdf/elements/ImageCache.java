@@ -0,0 +1,253 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a cache of the decoded images, shared by every document and thread, bounded by the total size of
+ * their data.
+ * <p>
+ * The images are keyed by their URL, or the digest of their content, and each image is read and decoded once while
+ * it stays in the cache, even when it is requested by several threads at the same time. The key of a file URL has the
+ * size and the modification time of the file, so a file written again is read again. When the data of the images
+ * exceeds the maximum size, the least recently used images are removed.
+ * <p>
+ * The cache returns copies of the decoded images: their position and scale can be changed, and they share the data
+ * and the identity of the decoded image, so a document embeds it once however many times it is added.
+ */
+public class ImageCache {
+    /**
+     * The default maximum size of the data of the images in a cache, in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    private static volatile ImageCache global = new ImageCache(DEFAULT_MAXIMUM_BYTES);
+
+    @Getter
+    private final long maximumBytes;
+    private final LinkedHashMap<String, Entry> images = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes = 0;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ImageCache(long maximumBytes) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("maximumBytes must be greater than zero");
+        }
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * This method is used to get the cache used by {@link PdfImage#getElement()}.
+     *
+     * @return The global cache.
+     */
+    public static ImageCache global() {
+        return global;
+    }
+
+    /**
+     * This method is used to replace the cache used by {@link PdfImage#getElement()}, to change its size.
+     * The images of the previous cache are not copied.
+     *
+     * @param cache The new global cache.
+     */
+    public static void setGlobal(@Nonnull ImageCache cache) {
+        global = cache;
+    }
+
+    /**
+     * This method is used to get a copy of an image from the cache, reading and decoding it if it is not in the cache.
+     *
+     * @param imageUrl The URL of the image.
+     * @return A copy of the decoded image.
+     * @throws IOException If the image could not be read.
+     */
+    public Image get(@Nonnull URL imageUrl) throws IOException {
+        return this.get(ImageSource.of(imageUrl));
+    }
+
+    /**
+     * This method is used to get a copy of an image from the cache, reading and decoding it if it is not in the cache.
+     *
+     * @param source The source of the image.
+     * @return A copy of the decoded image.
+     * @throws IOException If the image could not be read.
+     */
+    public Image get(@Nonnull ImageSource source) throws IOException {
+        var key = source.getPersistentKey();
+        return this.get(key, () -> ImageStreamCache.load(key, source::load));
+    }
+
+    /**
+     * This method is used to get a copy of an image from the cache, decoding it with the loader if it is not in the
+     * cache.
+     *
+     * @param key    The key of the image, like its URL or the digest of its content.
+     * @param loader The loader of the image.
+     * @return A copy of the decoded image.
+     * @throws IOException If the image could not be read.
+     */
+    Image get(@Nonnull String key, @Nonnull ImageLoader loader) throws IOException {
+        Entry entry;
+        var load = false;
+        synchronized (this.images) {
+            entry = this.images.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                this.images.put(key, entry);
+                load = true;
+            }
+        }
+        if (load) {
+            this.misses.increment();
+            try {
+                var image = loader.load();
+                entry.image.complete(image);
+                this.added(key, entry, weigh(image));
+            } catch (IOException | RuntimeException e) {
+                entry.image.completeExceptionally(e);
+                synchronized (this.images) {
+                    this.images.remove(key, entry);
+                }
+                throw e;
+            }
+        } else {
+            this.hits.increment();
+        }
+        try {
+            return Image.getInstance(entry.image.join());
+        } catch (CompletionException e) {
+            // the image was loaded by another thread, and it failed
+            if (e.getCause() instanceof IOException) {
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * This method is used to count the data of a loaded image and remove the least recently used images while the
+     * cache is too big. An image bigger than the cache is not kept.
+     */
+    private void added(String key, Entry entry, long weight) {
+        synchronized (this.images) {
+            if (this.images.get(key) != entry) {
+                return;
+            }
+            entry.bytes = weight;
+            this.bytes += weight;
+            var iterator = this.images.values().iterator();
+            while (this.bytes > this.maximumBytes && iterator.hasNext()) {
+                var eldest = iterator.next();
+                if (eldest == entry || !eldest.image.isDone()) {
+                    // the images being loaded are not counted yet, and the new one is removed last
+                    continue;
+                }
+                iterator.remove();
+                this.bytes -= eldest.bytes;
+                this.evictions.increment();
+            }
+            if (this.bytes > this.maximumBytes) {
+                this.images.remove(key);
+                this.bytes -= weight;
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * This method is used to estimate the size of the data of a decoded image.
+     */
+    private static long weigh(Image image) {
+        var rawData = image.getRawData();
+        if (rawData != null) {
+            return rawData.length;
+        }
+        // an image without raw data, like a template, is counted by its pixels
+        return (long) Math.max(1f, image.getPlainWidth()) * (long) Math.max(1f, image.getPlainHeight()) * 4;
+    }
+
+    /**
+     * This method is used to remove every image from the cache. The counters are not reset.
+     */
+    public void clear() {
+        synchronized (this.images) {
+            this.images.clear();
+            this.bytes = 0;
+        }
+    }
+
+    /**
+     * @return The number of images in the cache.
+     */
+    public int size() {
+        synchronized (this.images) {
+            return this.images.size();
+        }
+    }
+
+    /**
+     * @return The size of the data of the images in the cache, in bytes.
+     */
+    public long getBytes() {
+        synchronized (this.images) {
+            return this.bytes;
+        }
+    }
+
+    /**
+     * @return The number of requests answered by the cache.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return The number of requests that read and decoded an image.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return The number of images removed because the cache was full.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCache(maximumBytes=" + this.maximumBytes + ", bytes=" + this.getBytes() + ", size=" + this.size() + ", hits=" + this.getHits() + ", misses=" + this.getMisses() + ", evictions=" + this.getEvictions() + ")";
+    }
+
+    /**
+     * A function that reads and decodes an image.
+     */
+    @FunctionalInterface
+    interface ImageLoader {
+        Image load() throws IOException;
+    }
+
+    /**
+     * An image of the cache, with the size of its data once it is loaded.
+     */
+    private static final class Entry {
+        private final CompletableFuture<Image> image = new CompletableFuture<>();
+        private long bytes = 0;
+    }
+}
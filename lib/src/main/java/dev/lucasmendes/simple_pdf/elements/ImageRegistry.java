@@ -0,0 +1,84 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is the registry of the images of a document, so an image added several times, like a logo in the
+ * header of every page, is written once and referenced by every page.
+ * <p>
+ * The images are keyed by the {@link ImageSource#getKey() key} of their source, the external form of their URL, since
+ * {@link URL#equals(Object)} and {@link URL#hashCode()} can resolve the host, or the digest of their content. The first
+ * request of an image loads it through the {@link ImageCache#global()} cache, and the registry keeps it until the
+ * document is closed, even when the cache evicts it. Every request returns a copy of the registered image that can be
+ * scaled and positioned, and shares its data and its identity, so the document has a single image object for it.
+ */
+public final class ImageRegistry {
+    private final Map<String, Image> images = new HashMap<>();
+
+    /**
+     * This method is used to get a copy of the image of a URL, loading it on the first request.
+     *
+     * @param imageUrl The URL of the image.
+     * @return A copy of the registered image.
+     * @throws IOException If the image could not be read.
+     */
+    @Nonnull
+    public Image get(@Nonnull URL imageUrl) throws IOException {
+        return this.get(ImageSource.of(imageUrl));
+    }
+
+    /**
+     * This method is used to get a copy of the image of a source, loading it on the first request of its key.
+     *
+     * @param source The source of the image.
+     * @return A copy of the registered image.
+     * @throws IOException If the image could not be read.
+     */
+    @Nonnull
+    public Image get(@Nonnull ImageSource source) throws IOException {
+        return this.get(source.getKey(), () -> ImageCache.global().get(source));
+    }
+
+    /**
+     * This method is used to get a copy of an image, loading it with the loader on the first request of the key.
+     *
+     * @param key    The key of the image, like its URL or the digest of its content.
+     * @param loader The loader of the image.
+     * @return A copy of the registered image.
+     * @throws IOException If the image could not be read.
+     */
+    @Nonnull
+    synchronized Image get(@Nonnull String key, @Nonnull ImageCache.ImageLoader loader) throws IOException {
+        var image = this.images.get(key);
+        if (image == null) {
+            image = loader.load();
+            this.images.put(key, image);
+        }
+        return Image.getInstance(image);
+    }
+
+    /**
+     * @return The number of images in the registry.
+     */
+    public synchronized int size() {
+        return this.images.size();
+    }
+
+    /**
+     * This method is used to remove every image from the registry, when the document is closed.
+     */
+    public synchronized void clear() {
+        this.images.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImageRegistry(size=" + this.images.size() + ")";
+    }
+}
@@ -0,0 +1,143 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+import dev.lucasmendes.simple_pdf.configurations.ImageCompression;
+import dev.lucasmendes.simple_pdf.enums.ImageEncoding;
+import dev.lucasmendes.simple_pdf.models.Size;
+
+import javax.annotation.Nonnull;
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * This class resamples the images to the pixels they need in their size, following an {@link ImageCompression}.
+ */
+final class ImageResampler {
+    private static final float POINTS_PER_INCH = 72f;
+
+    private ImageResampler() {
+    }
+
+    /**
+     * This method is used to get the key of an image resampled for a size.
+     *
+     * @param source      The key of the image as it is read, like its URL.
+     * @param size        The size of the image in the document, in points.
+     * @param compression The configuration of the resampling.
+     * @return The key of the resampled image.
+     */
+    static String key(@Nonnull String source, @Nonnull Size size, @Nonnull ImageCompression compression) {
+        return source + "@" + size.getWidth() + "x" + size.getHeight()
+                + "," + compression.getDpi() + "," + compression.getEncoding() + "," + compression.getJpegQuality();
+    }
+
+    /**
+     * This method is used to read an image and resample it for a size.
+     *
+     * @param source      The source of the image.
+     * @param size        The size of the image in the document, in points.
+     * @param compression The configuration of the resampling.
+     * @return The resampled image, or the image as it is read if it does not have more pixels than it needs.
+     * @throws IOException If the image could not be read.
+     */
+    static Image resample(@Nonnull ImageSource source, @Nonnull Size size, @Nonnull ImageCompression compression) throws IOException {
+        return resample(source.read(), size, compression);
+    }
+
+    /**
+     * This method is used to resample the content of an image for a size.
+     * The resampled image keeps the natural size of the image, so it is laid out like the image as it is read.
+     *
+     * @param data        The content of the image, in a format supported by {@link ImageIO}.
+     * @param size        The size of the image in the document, in points.
+     * @param compression The configuration of the resampling.
+     * @return The resampled image, or the image as it is read if it does not have more pixels than it needs, or its
+     * format cannot be decoded by {@link ImageIO}.
+     * @throws IOException If the image could not be read.
+     */
+    static Image resample(@Nonnull byte[] data, @Nonnull Size size, @Nonnull ImageCompression compression) throws IOException {
+        try (var input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            var readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Image.getInstance(data);
+            }
+            var reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                var sourceWidth = reader.getWidth(0);
+                var sourceHeight = reader.getHeight(0);
+                var pixelsPerPoint = compression.getDpi() / POINTS_PER_INCH;
+                var scale = Math.min(
+                        size.getWidth() * pixelsPerPoint / sourceWidth,
+                        size.getHeight() * pixelsPerPoint / sourceHeight
+                );
+                if (scale >= 1) {
+                    return Image.getInstance(data);
+                }
+                var width = Math.max(1, Math.round(sourceWidth * scale));
+                var height = Math.max(1, Math.round(sourceHeight * scale));
+                // the pixels are read with a subsampling that keeps at least twice the pixels of the result
+                var parameters = reader.getDefaultReadParam();
+                var subsampling = Math.max(1, (int) (1 / (scale * 2)));
+                parameters.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                var image = encode(scale(reader.read(0, parameters), width, height), compression);
+                image.scaleAbsolute(sourceWidth, sourceHeight);
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IIOException e) {
+            // a variant of a format the reader cannot decode, like a CMYK JPEG, is written as it is read
+            return Image.getInstance(data);
+        }
+    }
+
+    /**
+     * This method is used to scale an image down, halving it while it is more than twice the size, so every pixel
+     * of the image contributes to the result of the bilinear interpolation.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        var type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        var current = source;
+        do {
+            var nextWidth = Math.max(width, current.getWidth() / 2);
+            var nextHeight = Math.max(height, current.getHeight() / 2);
+            var next = new BufferedImage(nextWidth, nextHeight, type);
+            var graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (current.getWidth() != width || current.getHeight() != height);
+        return current;
+    }
+
+    private static Image encode(BufferedImage image, ImageCompression compression) throws IOException {
+        if (compression.getEncoding() == ImageEncoding.FLATE || image.getColorModel().hasAlpha()) {
+            // the pixels are written compressed with Flate
+            return Image.getInstance(image, null);
+        }
+        var writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var output = new ByteArrayOutputStream();
+        try (var stream = ImageIO.createImageOutputStream(output)) {
+            var parameters = writer.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(compression.getJpegQuality());
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), parameters);
+        } finally {
+            writer.dispose();
+        }
+        return Image.getInstance(output.toByteArray());
+    }
+}
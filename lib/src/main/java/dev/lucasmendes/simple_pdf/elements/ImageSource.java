@@ -0,0 +1,239 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Supplier;
+
+/**
+ * This class is the source of the content of an image: a URL, a content in memory, like a byte array or a
+ * memory-mapped buffer, or a stream.
+ * <p>
+ * A source is identified by its key, the external form of its URL or the SHA-256 digest of its content, so the
+ * images with the same content are cached and written once, like the images of the same file. The content is read
+ * only when the image is decoded, or when the digest is needed; the key of a stream supplier is computed by reading a
+ * stream, and its content is read again from another stream to be decoded.
+ */
+public final class ImageSource {
+    private static final String DIGEST_PREFIX = "sha-256:";
+
+    @Nullable
+    private final URL url;
+    @Nullable
+    private final ByteBuffer content;
+    @Nullable
+    private final Supplier<InputStream> streams;
+    private volatile String key;
+
+    private ImageSource(@Nullable URL url, @Nullable ByteBuffer content, @Nullable Supplier<InputStream> streams) {
+        this.url = url;
+        this.content = content;
+        this.streams = streams;
+        this.key = url != null ? url.toExternalForm() : null;
+    }
+
+    /**
+     * This method is used to create the source of the image of a URL.
+     *
+     * @param url The URL of the image.
+     * @return The source of the image.
+     */
+    public static ImageSource of(@Nonnull URL url) {
+        return new ImageSource(url, null, null);
+    }
+
+    /**
+     * This method is used to create the source of an image in a byte array. The array is not copied, so it must not
+     * be changed after the source is created.
+     *
+     * @param content The content of the image.
+     * @return The source of the image.
+     */
+    public static ImageSource of(@Nonnull byte[] content) {
+        return new ImageSource(null, ByteBuffer.wrap(content).asReadOnlyBuffer(), null);
+    }
+
+    /**
+     * This method is used to create the source of an image in the remaining bytes of a buffer, like a
+     * memory-mapped file. The bytes are not copied until the image is decoded, so they must not be changed after the
+     * source is created. The position of the buffer is not changed.
+     *
+     * @param content The content of the image.
+     * @return The source of the image.
+     */
+    public static ImageSource of(@Nonnull ByteBuffer content) {
+        return new ImageSource(null, content.slice().asReadOnlyBuffer(), null);
+    }
+
+    /**
+     * This method is used to create the source of an image in a stream. The stream is read to the end, since it
+     * cannot be read again, and it is not closed.
+     *
+     * @param stream The stream of the content of the image.
+     * @return The source of the image.
+     * @throws IOException If the stream could not be read.
+     */
+    public static ImageSource of(@Nonnull InputStream stream) throws IOException {
+        return of(stream.readAllBytes());
+    }
+
+    /**
+     * This method is used to create the source of an image read from the streams of a supplier, like the blobs of a
+     * database. Each stream must have the same content, and it is closed after it is read.
+     *
+     * @param streams The supplier of the streams of the content of the image.
+     * @return The source of the image.
+     */
+    public static ImageSource of(@Nonnull Supplier<InputStream> streams) {
+        return new ImageSource(null, null, streams);
+    }
+
+    /**
+     * @return The URL of the image, or null if it is not read from a URL.
+     */
+    @Nullable
+    public URL getUrl() {
+        return this.url;
+    }
+
+    /**
+     * This method is used to get the key of the source, the external form of its URL or the SHA-256 digest of its
+     * content. The digest is computed once.
+     *
+     * @return The key of the source.
+     * @throws UncheckedIOException If the stream of the content could not be read.
+     */
+    @Nonnull
+    public String getKey() {
+        var key = this.key;
+        if (key == null) {
+            key = DIGEST_PREFIX + Digests.hex(this.digest());
+            this.key = key;
+        }
+        return key;
+    }
+
+    /**
+     * This method is used to get the key of the source that identifies its content across processes: the key of the
+     * source, with the size and the modification time of the file of a file URL.
+     *
+     * @return The persistent key of the source.
+     */
+    @Nonnull
+    String getPersistentKey() {
+        var key = this.getKey();
+        if (this.url == null || !"file".equals(this.url.getProtocol())) {
+            return key;
+        }
+        try {
+            var attributes = Files.readAttributes(Paths.get(this.url.toURI()), BasicFileAttributes.class);
+            return key + "@" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            // the file is read by the loader, which reports the error
+            return key;
+        }
+    }
+
+    /**
+     * This method is used to read the content of the image.
+     *
+     * @return The content of the image.
+     * @throws IOException If the content could not be read.
+     */
+    @Nonnull
+    public byte[] read() throws IOException {
+        if (this.url != null) {
+            try (var stream = this.url.openStream()) {
+                return stream.readAllBytes();
+            }
+        }
+        if (this.content != null) {
+            var content = this.content.duplicate();
+            var bytes = new byte[content.remaining()];
+            content.get(bytes);
+            return bytes;
+        }
+        try (var stream = this.streams.get()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    /**
+     * This method is used to read and decode the image.
+     *
+     * @return The decoded image.
+     * @throws IOException If the image could not be read.
+     */
+    @Nonnull
+    Image load() throws IOException {
+        if (this.url != null) {
+            return Image.getInstance(this.url);
+        }
+        return Image.getInstance(this.read());
+    }
+
+    private byte[] digest() {
+        var digest = Digests.sha256();
+        if (this.content != null) {
+            digest.update(this.content.duplicate());
+            return digest.digest();
+        }
+        try (var stream = this.streams.get()) {
+            var buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof ImageSource && this.getKey().equals(((ImageSource) other).getKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getKey().hashCode();
+    }
+
+    /**
+     * This method is used to get the value that identifies the source without reading it: the external form of its
+     * URL, its content in memory or its stream supplier.
+     *
+     * @return The identity of the source.
+     */
+    @Nonnull
+    Object getIdentity() {
+        if (this.url != null) {
+            return this.url.toExternalForm();
+        }
+        return this.content != null ? this.content : this.streams;
+    }
+
+    /**
+     * The text of the source does not compute its digest, so it does not read a stream.
+     */
+    @Override
+    public String toString() {
+        if (this.url != null) {
+            return "ImageSource(" + this.url.toExternalForm() + ")";
+        }
+        var key = this.key;
+        var description = this.content != null ? "bytes=" + this.content.remaining() : "stream";
+        return "ImageSource(" + (key != null ? description + ", " + key : description) + ")";
+    }
+}
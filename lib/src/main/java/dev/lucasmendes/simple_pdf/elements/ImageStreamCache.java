@@ -0,0 +1,413 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Element;
+import com.lowagie.text.Image;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+
+/**
+ * This class is a cache of the images saved to a directory in the form they are written to the documents, so an
+ * image is decoded and compressed once and loaded by the next processes without decoding it.
+ * <p>
+ * The decoded pixels of an image, and of its transparency mask, are saved compressed with Flate, with their size, color
+ * space, bits per component and transparent colors, and are written to the documents as they are saved. The images
+ * written as they are read, like the JPEG images, are saved as they are read. Other images, like the images with a
+ * palette, are not saved, since OpenPDF writes them without decoding them.
+ * <p>
+ * Each image is saved in a file named after the SHA-256 hash of its key: the digest of its content or its URL, with
+ * the size and the modification time of its file, and the size and the compression it is resampled for. When the files
+ * exceed the maximum size, the least recently used files are deleted.
+ * When the {@link #global()} cache is set, {@link PdfImage#getElement()} loads the images from it.
+ */
+public class ImageStreamCache {
+    /**
+     * The default maximum size of the files of a cache, in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_BYTES = 256L * 1024 * 1024;
+
+    private static final int MAGIC = 0x53504649;
+    private static final int VERSION = 1;
+    private static final String EXTENSION = ".image";
+    private static final byte RAW = 1;
+    private static final byte ENCODED = 2;
+
+    private static volatile ImageStreamCache global = null;
+
+    @Getter
+    @Nonnull
+    private final Path directory;
+    @Getter
+    private final long maximumBytes;
+    private long bytes = -1;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ImageStreamCache(@Nonnull Path directory) {
+        this(directory, DEFAULT_MAXIMUM_BYTES);
+    }
+
+    public ImageStreamCache(@Nonnull Path directory, long maximumBytes) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("maximumBytes must be greater than zero");
+        }
+        this.directory = directory;
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * This method is used to get the cache used by {@link PdfImage#getElement()}.
+     *
+     * @return The global cache, or null if the images are not saved.
+     */
+    @Nullable
+    public static ImageStreamCache global() {
+        return global;
+    }
+
+    /**
+     * This method is used to set the cache used by {@link PdfImage#getElement()}.
+     *
+     * @param cache The new global cache, or null to stop saving the images.
+     */
+    public static void setGlobal(@Nullable ImageStreamCache cache) {
+        global = cache;
+    }
+
+    /**
+     * This method is used to load an image from the {@link #global()} cache, or with the loader if it is not set.
+     *
+     * @param key    The key of the image.
+     * @param loader The loader of the image.
+     * @return The image.
+     * @throws IOException If the image could not be read.
+     */
+    static Image load(@Nonnull String key, @Nonnull ImageCache.ImageLoader loader) throws IOException {
+        var cache = global;
+        return cache != null ? cache.get(key, loader) : loader.load();
+    }
+
+    /**
+     * This method is used to get an image of a source, loading it from the directory if it was saved.
+     *
+     * @param source The source of the image.
+     * @return The image.
+     * @throws IOException If the image could not be read.
+     */
+    public Image get(@Nonnull ImageSource source) throws IOException {
+        return this.get(source.getPersistentKey(), source::load);
+    }
+
+    /**
+     * This method is used to get an image, loading it from the directory if it was saved, or with the loader and
+     * saving it.
+     *
+     * @param key    The key of the image.
+     * @param loader The loader of the image.
+     * @return The image.
+     * @throws IOException If the image could not be read.
+     */
+    Image get(@Nonnull String key, @Nonnull ImageCache.ImageLoader loader) throws IOException {
+        var imageFile = this.directory.resolve(Digests.sha256Hex(key) + EXTENSION);
+        var saved = read(imageFile);
+        if (saved != null) {
+            this.hits.increment();
+            try {
+                Files.setLastModifiedTime(imageFile, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException ignore) {
+                // the file was deleted by another process, the image is still used
+            }
+            return saved;
+        }
+        this.misses.increment();
+        var image = loader.load();
+        var encoded = encode(image);
+        if (encoded == null) {
+            return image;
+        }
+        this.write(imageFile, encoded);
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    /**
+     * @return The number of images loaded from the directory.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return The number of images loaded without the directory.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return The number of files deleted to keep the cache under its maximum size.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * This method is used to read a saved image file.
+     *
+     * @param imageFile The image file.
+     * @return The image, or null if the file does not exist or cannot be read.
+     */
+    @Nullable
+    private static Image read(Path imageFile) {
+        if (!Files.isRegularFile(imageFile)) {
+            return null;
+        }
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(imageFile)));
+        } catch (IOException | RuntimeException e) {
+            // a truncated or corrupted file is saved again
+            return null;
+        }
+    }
+
+    /**
+     * This method is used to encode an image in the form it is written to the documents.
+     *
+     * @param image The image.
+     * @return The content of the image file, or null if the image cannot be saved.
+     */
+    @Nullable
+    private static byte[] encode(Image image) throws IOException {
+        var mask = image.getImageMask();
+        var output = new ByteArrayOutputStream();
+        var data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        if (isRaw(image) && (mask == null || isRaw(mask))) {
+            data.writeByte(RAW);
+            data.writeFloat(image.getPlainWidth());
+            data.writeFloat(image.getPlainHeight());
+            writeRaw(data, image);
+            data.writeBoolean(mask != null);
+            if (mask != null) {
+                writeRaw(data, mask);
+            }
+        } else if (image.type() == Element.JPEG && mask == null && image.getAdditional() == null) {
+            data.writeByte(ENCODED);
+            data.writeFloat(image.getPlainWidth());
+            data.writeFloat(image.getPlainHeight());
+            data.writeInt(image.getRawData().length);
+            data.write(image.getRawData());
+        } else {
+            return null;
+        }
+        data.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * This method is used to check if the decoded pixels of an image are all it needs to be written.
+     */
+    private static boolean isRaw(Image image) {
+        return image.isImgRaw()
+                && image.getBpc() <= 8
+                && image.getAdditional() == null
+                && !image.hasICCProfile()
+                && !image.isInverted();
+    }
+
+    private static void writeRaw(DataOutputStream data, Image image) throws IOException {
+        var pixels = image.getRawData();
+        if (!image.isDeflated()) {
+            pixels = deflate(pixels, image.getCompressionLevel());
+        }
+        data.writeInt((int) image.getWidth());
+        data.writeInt((int) image.getHeight());
+        data.writeInt(image.getColorspace());
+        data.writeInt(image.getBpc());
+        data.writeInt(pixels.length);
+        data.write(pixels);
+        var transparency = image.getTransparency();
+        data.writeInt(transparency != null ? transparency.length : -1);
+        if (transparency != null) {
+            for (int value : transparency) {
+                data.writeInt(value);
+            }
+        }
+    }
+
+    private static byte[] deflate(byte[] pixels, int level) {
+        var deflater = new Deflater(level);
+        try {
+            deflater.setInput(pixels);
+            deflater.finish();
+            var output = new ByteArrayOutputStream(pixels.length / 4 + 64);
+            var buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * This method is used to create the image of the content of an image file.
+     *
+     * @throws IOException If the content is not an image file of this version.
+     * @throws BufferUnderflowException If the content is truncated.
+     */
+    private static Image decode(ByteBuffer input) throws IOException {
+        if (input.getInt() != MAGIC || input.getInt() != VERSION) {
+            throw new IOException("Not an image file of version " + VERSION);
+        }
+        var kind = input.get();
+        var plainWidth = input.getFloat();
+        var plainHeight = input.getFloat();
+        Image image;
+        if (kind == RAW) {
+            image = readRaw(input);
+            if (input.get() != 0) {
+                var mask = readRaw(input);
+                mask.makeMask();
+                image.setImageMask(mask);
+            }
+        } else if (kind == ENCODED) {
+            image = Image.getInstance(readBytes(input));
+        } else {
+            throw new IOException("Unknown image kind " + kind);
+        }
+        if (image.getPlainWidth() != plainWidth || image.getPlainHeight() != plainHeight) {
+            image.scaleAbsolute(plainWidth, plainHeight);
+        }
+        return image;
+    }
+
+    private static Image readRaw(ByteBuffer input) {
+        var width = input.getInt();
+        var height = input.getInt();
+        var colorspace = input.getInt();
+        var bpc = input.getInt();
+        var image = Image.getInstance(width, height, colorspace, bpc, readBytes(input));
+        image.setDeflated(true);
+        var transparencyLength = input.getInt();
+        if (transparencyLength >= 0) {
+            var transparency = new int[transparencyLength];
+            for (int i = 0; i < transparencyLength; i++) {
+                transparency[i] = input.getInt();
+            }
+            image.setTransparency(transparency);
+        }
+        return image;
+    }
+
+    private static byte[] readBytes(ByteBuffer input) {
+        var bytes = new byte[input.getInt()];
+        input.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * This method is used to save an image file, replacing it atomically, and delete the least recently used files
+     * while the cache is too big.
+     */
+    private void write(Path imageFile, byte[] content) throws IOException {
+        Files.createDirectories(this.directory);
+        var temporary = Files.createTempFile(this.directory, "image", ".tmp");
+        try {
+            Files.write(temporary, content);
+            var replaced = Files.isRegularFile(imageFile) ? Files.size(imageFile) : 0;
+            try {
+                Files.move(temporary, imageFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, imageFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            this.added(imageFile, content.length - replaced);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private synchronized void added(Path imageFile, long size) throws IOException {
+        if (this.bytes < 0) {
+            // the files of the previous processes are counted once
+            this.bytes = 0;
+            for (Path file : this.listFiles()) {
+                this.bytes += Files.size(file);
+            }
+        } else {
+            this.bytes += size;
+        }
+        if (this.bytes <= this.maximumBytes) {
+            return;
+        }
+        var files = new ArrayList<Saved>();
+        for (Path file : this.listFiles()) {
+            try {
+                var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                files.add(new Saved(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+            } catch (IOException ignore) {
+                // the file was deleted by another process
+            }
+        }
+        files.sort(Comparator.comparingLong((Saved saved) -> saved.modified));
+        this.bytes = files.stream().mapToLong(saved -> saved.size).sum();
+        for (Saved saved : files) {
+            if (this.bytes <= this.maximumBytes) {
+                break;
+            }
+            if (saved.file.equals(imageFile)) {
+                continue;
+            }
+            if (Files.deleteIfExists(saved.file)) {
+                this.evictions.increment();
+            }
+            this.bytes -= saved.size;
+        }
+    }
+
+    private List<Path> listFiles() throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return List.of();
+        }
+        try (var files = Files.list(this.directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(EXTENSION)).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * An image file, with its size and the last time it was used.
+     */
+    @RequiredArgsConstructor
+    private static final class Saved {
+        private final Path file;
+        private final long size;
+        private final long modified;
+    }
+
+    @Override
+    public String toString() {
+        return "ImageStreamCache(directory=" + this.directory + ", maximumBytes=" + this.maximumBytes
+                + ", hits=" + this.getHits() + ", misses=" + this.getMisses() + ", evictions=" + this.getEvictions() + ")";
+    }
+}
@@ -0,0 +1,21 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+
+/**
+ * This is an interface for elements that can be written to a document in several steps,
+ * so the parts that were already written can be released before the element is complete.
+ *
+ * @param <T> This is a type parameter that extends Element class from com.lowagie.text package.
+ */
+public interface IncrementalInsertable<T extends Element> extends Insertable<T> {
+
+    /**
+     * This method is used to write the element to the document, part by part.
+     *
+     * @param document The document that receives the element.
+     * @return boolean This returns true if the element was inserted successfully.
+     */
+    boolean insertInto(Document document);
+}
@@ -0,0 +1,115 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * This is a concrete class that extends AbstractElement.
+ * It represents a text of a {@link PageTemplate} that changes on every page, like the number of the page.
+ * The slot is a cell of a table of the template, kept empty when the template is laid out, and its text is written
+ * in the cell every time the template is stamped on a page.
+ * The slots are created by {@link PdfTemplateEditor#slot(IntFunction)}.
+ */
+@Getter
+public class PageSlot extends AbstractElement<Paragraph> {
+    /**
+     * The text of the slot for the number of a page.
+     */
+    @Nonnull
+    private final IntFunction<String> text;
+    /**
+     * The font of the text, or null to use the default font.
+     */
+    @Nullable
+    private final SimpleFont font;
+    /**
+     * The positions of the slots of the template, shared by the slots of the same editor.
+     */
+    @Getter(AccessLevel.NONE)
+    @Nonnull
+    private final List<Placement> placements;
+
+    private PageSlot(
+            @Nonnull IntFunction<String> text,
+            @Nullable SimpleFont font,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment,
+            @Nonnull List<Placement> placements
+    ) {
+        super(horizontalAlignment, verticalAlignment);
+        this.text = text;
+        this.font = font;
+        this.placements = placements;
+    }
+
+    PageSlot(@Nonnull IntFunction<String> text, @Nonnull List<Placement> placements) {
+        this(text, null, HorizontalAlignment.LEFT, VerticalAlignment.MIDDLE, placements);
+    }
+
+    @Override
+    public PageSlot withHorizontalAlignment(@Nonnull HorizontalAlignment horizontalAlignment) {
+        return new PageSlot(this.text, this.font, horizontalAlignment, this.getVerticalAlignment(), this.placements);
+    }
+
+    @Override
+    public PageSlot withVerticalAlignment(@Nonnull VerticalAlignment verticalAlignment) {
+        return new PageSlot(this.text, this.font, this.getHorizontalAlignment(), verticalAlignment, this.placements);
+    }
+
+    public PageSlot withFont(@Nullable SimpleFont font) {
+        return new PageSlot(this.text, font, this.getHorizontalAlignment(), this.getVerticalAlignment(), this.placements);
+    }
+
+    /**
+     * This method is used to get the text of the slot on a page.
+     *
+     * @param pageNumber The number of the page.
+     * @return The text of the slot.
+     */
+    @Nonnull
+    public String getText(int pageNumber) {
+        return this.text.apply(pageNumber);
+    }
+
+    /**
+     * This method is used to get a blank paragraph with the height of a line of the font, so the cell of the slot
+     * keeps the height of its text.
+     *
+     * @return The blank paragraph.
+     */
+    @Override
+    public Paragraph getElement() {
+        return this.font != null ? new Paragraph(" ", this.font.getOpenPdfFont()) : new Paragraph(" ");
+    }
+
+    /**
+     * This method is used to record the position of the cell of the slot, when the template is laid out.
+     *
+     * @param position The position of the cell, in the coordinates of the template.
+     */
+    void place(@Nonnull Rectangle position) {
+        this.placements.add(new Placement(this, position));
+    }
+
+    /**
+     * The position of a slot in its template.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static final class Placement {
+        @Nonnull
+        private final PageSlot slot;
+        @Nonnull
+        private final Rectangle position;
+    }
+}
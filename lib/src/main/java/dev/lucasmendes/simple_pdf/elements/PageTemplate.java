@@ -0,0 +1,128 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Element;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfTemplate;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * This class is a header or a footer laid out once, by {@link PdfTemplateEditor#layout(PdfContentByte, float)}, into
+ * a form that is written once and drawn on every page.
+ * Stamping the template on a page only draws the form and the texts of its {@link PageSlot slots}, so the tables,
+ * the images and the texts of the template are not laid out again for each page.
+ */
+public final class PageTemplate {
+    /**
+     * The form with the elements of the template.
+     */
+    @Getter
+    @Nonnull
+    private final PdfTemplate template;
+    /**
+     * The height of the template, in points.
+     */
+    @Getter
+    private final float height;
+    @Nonnull
+    private final List<PageSlot.Placement> placements;
+    @Nullable
+    private final SimpleFont defaultFont;
+
+    PageTemplate(
+            @Nonnull PdfTemplate template,
+            float height,
+            @Nonnull List<PageSlot.Placement> placements,
+            @Nullable SimpleFont defaultFont
+    ) {
+        this.template = template;
+        this.height = height;
+        this.placements = placements;
+        this.defaultFont = defaultFont;
+    }
+
+    /**
+     * This method is used to draw the template on a page, with the texts of its slots for the page.
+     *
+     * @param canvas     The canvas of the page.
+     * @param x          The left of the template in the page.
+     * @param y          The bottom of the template in the page.
+     * @param pageNumber The number of the page.
+     */
+    public void stamp(@Nonnull PdfContentByte canvas, float x, float y, int pageNumber) {
+        canvas.addTemplate(this.template, x, y);
+        for (PageSlot.Placement placement : this.placements) {
+            var slot = placement.getSlot();
+            var font = slot.getFont() != null ? slot.getFont() : this.defaultFont;
+            var phrase = font != null
+                    ? new Phrase(slot.getText(pageNumber), font.getOpenPdfFont())
+                    : new Phrase(slot.getText(pageNumber));
+            var position = placement.getPosition();
+            ColumnText.showTextAligned(
+                    canvas,
+                    slot.getHorizontalAlignment().getValue(),
+                    phrase,
+                    x + this.getX(slot, position),
+                    y + this.getBaseline(slot, position, phrase.getFont().getCalculatedBaseFont(false), phrase.getFont().getCalculatedSize()),
+                    0
+            );
+        }
+    }
+
+    private float getX(PageSlot slot, Rectangle position) {
+        switch (slot.getHorizontalAlignment()) {
+            case RIGHT:
+                return position.getRight();
+            case CENTER:
+                return (position.getLeft() + position.getRight()) / 2;
+            default:
+                return position.getLeft();
+        }
+    }
+
+    private float getBaseline(PageSlot slot, Rectangle position, BaseFont font, float size) {
+        var ascent = font.getFontDescriptor(BaseFont.ASCENT, size);
+        var descent = font.getFontDescriptor(BaseFont.DESCENT, size);
+        switch (slot.getVerticalAlignment()) {
+            case TOP:
+                return position.getTop() - ascent;
+            case BOTTOM:
+                return position.getBottom() - descent;
+            default:
+                return (position.getTop() + position.getBottom() - ascent - descent) / 2;
+        }
+    }
+
+    /**
+     * This method is used to create a blank table with the height of the template, to keep the content of the page
+     * below a header.
+     *
+     * @return The blank table.
+     */
+    @Nonnull
+    public PdfPTable createSpacer() {
+        var cell = new PdfPCell();
+        cell.setBorder(Rectangle.NO_BORDER);
+        cell.setPadding(0);
+        cell.setFixedHeight(this.height);
+        var spacer = new PdfPTable(1);
+        spacer.setWidthPercentage(100);
+        spacer.setHorizontalAlignment(Element.ALIGN_CENTER);
+        spacer.addCell(cell);
+        return spacer;
+    }
+
+    @Override
+    public String toString() {
+        return "PageTemplate(height=" + this.height + ", slots=" + this.placements.size() + ")";
+    }
+}
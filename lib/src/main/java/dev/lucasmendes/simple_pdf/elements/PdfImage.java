@@ -1,5 +1,6 @@
 package dev.lucasmendes.simple_pdf.elements;
 
+import dev.lucasmendes.simple_pdf.configurations.ImageCompression;
 import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
 import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
 import dev.lucasmendes.simple_pdf.models.Edges;
@@ -14,7 +15,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 
 /**
  * This is a concrete class that extends AbstractElement.
@@ -25,12 +29,30 @@ import java.net.URL;
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
 public class PdfImage extends AbstractElement<Image> {
+    /**
+     * The source of the content of the image.
+     * It is compared by its {@link #getSourceIdentity() identity}, since its key can read a stream.
+     */
     @Nonnull
-    private final URL imageUrl;
+    @EqualsAndHashCode.Exclude
+    private final ImageSource source;
     @Nullable
     private final Size size;
     @Nullable
     private final Edges edges;
+    /**
+     * The registry of the images of the document, or null to read the image from the {@link ImageCache#global()}
+     * cache.
+     */
+    @Nullable
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ImageRegistry registry;
+    /**
+     * The resampling of the image for its size, or null to write the image as it is read.
+     */
+    @Nullable
+    private final ImageCompression compression;
 
     /**
      * Constructor for PdfImage.
@@ -47,11 +69,36 @@ public class PdfImage extends AbstractElement<Image> {
             @Nonnull VerticalAlignment verticalAlignment,
             @Nullable Size size,
             @Nullable Edges edges
+    ) {
+        this(ImageSource.of(imageUrl), horizontalAlignment, verticalAlignment, size, edges, null, null);
+    }
+
+    /**
+     * Constructor for PdfImage with the registry of the images of the document and the resampling of the image.
+     *
+     * @param source The source of the content of the image.
+     * @param horizontalAlignment The horizontal alignment of the image.
+     * @param verticalAlignment The vertical alignment of the image.
+     * @param size The size of the image.
+     * @param edges The edges of the image.
+     * @param registry The registry of the images of the document.
+     * @param compression The resampling of the image for its size.
+     */
+    public PdfImage(
+            @Nonnull ImageSource source,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment,
+            @Nullable Size size,
+            @Nullable Edges edges,
+            @Nullable ImageRegistry registry,
+            @Nullable ImageCompression compression
     ) {
         super(horizontalAlignment, verticalAlignment);
-        this.imageUrl = imageUrl;
+        this.source = source;
         this.size = size;
         this.edges = edges;
+        this.registry = registry;
+        this.compression = compression;
     }
 
     /**
@@ -78,6 +125,15 @@ public class PdfImage extends AbstractElement<Image> {
         this(imageUrl, HorizontalAlignment.CENTER, VerticalAlignment.MIDDLE);
     }
 
+    /**
+     * Constructor for PdfImage with a source, and default alignments, size, and edges.
+     *
+     * @param source The source of the content of the image.
+     */
+    public PdfImage(@Nonnull ImageSource source) {
+        this(source, HorizontalAlignment.CENTER, VerticalAlignment.MIDDLE, null, Edges.zero(), null, null);
+    }
+
     /**
      * This method is used to create a PdfImage from a file.
      *
@@ -89,15 +145,85 @@ public class PdfImage extends AbstractElement<Image> {
         return new PdfImage(file.toURI().toURL());
     }
 
+    /**
+     * This method is used to create a PdfImage from the content of an image, like a blob of a database.
+     * The array is not copied, so it must not be changed after the image is created.
+     *
+     * @param content The content of the image.
+     * @return PdfImage This returns a PdfImage created from the content.
+     */
+    public static PdfImage fromBytes(@Nonnull byte[] content) {
+        return new PdfImage(ImageSource.of(content));
+    }
+
+    /**
+     * This method is used to create a PdfImage from the remaining bytes of a buffer, like a memory-mapped file.
+     * The bytes are read when the image is decoded, so they must not be changed after the image is created.
+     *
+     * @param content The content of the image.
+     * @return PdfImage This returns a PdfImage created from the content.
+     */
+    public static PdfImage fromBuffer(@Nonnull ByteBuffer content) {
+        return new PdfImage(ImageSource.of(content));
+    }
+
+    /**
+     * This method is used to create a PdfImage from a stream, read to the end. The stream is not closed.
+     *
+     * @param stream The stream of the content of the image.
+     * @return PdfImage This returns a PdfImage created from the content.
+     * @throws IOException If the stream could not be read.
+     */
+    public static PdfImage fromStream(@Nonnull InputStream stream) throws IOException {
+        return new PdfImage(ImageSource.of(stream));
+    }
+
+    /**
+     * This method is used to create a PdfImage read from the streams of a supplier, like an object storage.
+     * The content is read when the image is decoded, and to compute its digest.
+     *
+     * @param streams The supplier of the streams of the content of the image, each with the same content.
+     * @return PdfImage This returns a PdfImage created from the content.
+     */
+    public static PdfImage fromStream(@Nonnull Supplier<InputStream> streams) {
+        return new PdfImage(ImageSource.of(streams));
+    }
+
+    /**
+     * @return The URL of the image, or null if it is not read from a URL.
+     */
+    @Nullable
+    public URL getImageUrl() {
+        return this.source.getUrl();
+    }
+
     /**
      * This method is used to get the image.
+     * The image is read and decoded once through the registry of the document, or the {@link ImageCache#global()}
+     * cache, and every call returns a copy that can be scaled and positioned.
+     * An image with a size and a compression is resampled for its size once. When the {@link ImageStreamCache#global()}
+     * cache is set, the decoded and resampled images are loaded from it.
      *
-     * @return Image This returns an Image created from the imageUrl.
+     * @return Image This returns an Image created from the source.
      */
     @Override
     @SneakyThrows
     public Image getElement() {
-        return Image.getInstance(imageUrl);
+        var source = this.source;
+        if (this.compression == null || this.size == null) {
+            return this.registry != null ? this.registry.get(source) : ImageCache.global().get(source);
+        }
+        var size = this.size;
+        var compression = this.compression;
+        var key = ImageResampler.key(source.getKey(), size, compression);
+        ImageCache.ImageLoader loader = () -> {
+            var persistentKey = ImageResampler.key(source.getPersistentKey(), size, compression);
+            return ImageCache.global().get(persistentKey, () -> ImageStreamCache.load(
+                    persistentKey,
+                    () -> ImageResampler.resample(source, size, compression)
+            ));
+        };
+        return this.registry != null ? this.registry.get(key, loader) : loader.load();
     }
 
     /**
@@ -108,7 +234,7 @@ public class PdfImage extends AbstractElement<Image> {
      */
     @Override
     public PdfImage withHorizontalAlignment(@Nonnull HorizontalAlignment horizontalAlignment) {
-        return new PdfImage(this.imageUrl, horizontalAlignment, this.getVerticalAlignment(), this.size, this.edges);
+        return new PdfImage(this.source, horizontalAlignment, this.getVerticalAlignment(), this.size, this.edges, this.registry, this.compression);
     }
 
     /**
@@ -119,7 +245,7 @@ public class PdfImage extends AbstractElement<Image> {
      */
     @Override
     public PdfImage withVerticalAlignment(@Nonnull VerticalAlignment verticalAlignment) {
-        return new PdfImage(this.imageUrl, this.getHorizontalAlignment(), verticalAlignment, this.size, this.edges);
+        return new PdfImage(this.source, this.getHorizontalAlignment(), verticalAlignment, this.size, this.edges, this.registry, this.compression);
     }
 
     /**
@@ -140,7 +266,7 @@ public class PdfImage extends AbstractElement<Image> {
      * @return PdfImage This returns a PdfImage with the size set.
      */
     public PdfImage withSize(@Nonnull Size size) {
-        return new PdfImage(this.imageUrl, this.getHorizontalAlignment(), this.getVerticalAlignment(), size, this.edges);
+        return new PdfImage(this.source, this.getHorizontalAlignment(), this.getVerticalAlignment(), size, this.edges, this.registry, this.compression);
     }
 
     /**
@@ -150,6 +276,36 @@ public class PdfImage extends AbstractElement<Image> {
      * @return PdfImage This returns a PdfImage with the edges set.
      */
     public PdfImage withEdges(@Nonnull Edges edges) {
-        return new PdfImage(this.imageUrl, this.getHorizontalAlignment(), this.getVerticalAlignment(), this.size, edges);
+        return new PdfImage(this.source, this.getHorizontalAlignment(), this.getVerticalAlignment(), this.size, edges, this.registry, this.compression);
+    }
+
+    /**
+     * This method is used to set the registry of the images of the document, so the image is written once however
+     * many times it is added.
+     *
+     * @param registry The registry to be set.
+     * @return PdfImage This returns a PdfImage with the registry set.
+     */
+    public PdfImage withRegistry(@Nonnull ImageRegistry registry) {
+        return new PdfImage(this.source, this.getHorizontalAlignment(), this.getVerticalAlignment(), this.size, this.edges, registry, this.compression);
+    }
+
+    /**
+     * This method is used to set the resampling of the image for its size, so it is written with the pixels it needs
+     * to be printed at the resolution of the compression.
+     *
+     * @param compression The compression to be set.
+     * @return PdfImage This returns a PdfImage with the compression set.
+     */
+    public PdfImage withCompression(@Nonnull ImageCompression compression) {
+        return new PdfImage(this.source, this.getHorizontalAlignment(), this.getVerticalAlignment(), this.size, this.edges, this.registry, compression);
+    }
+
+    /**
+     * @return The value that identifies the source in the equality of the image, without reading its content.
+     */
+    @EqualsAndHashCode.Include
+    private Object getSourceIdentity() {
+        return this.source.getIdentity();
     }
 }
@@ -2,11 +2,14 @@ package dev.lucasmendes.simple_pdf.elements;
 
 import com.lowagie.text.Element;
 import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
 import dev.lucasmendes.simple_pdf.configurations.PdfWidth;
 import dev.lucasmendes.simple_pdf.core.PdfEditorBase;
 
+import java.util.Arrays;
+
 /**
  * This is a concrete class that extends {@link PdfEditorBase}.
  * It represents a table in a PDF document.
@@ -15,16 +18,28 @@ import dev.lucasmendes.simple_pdf.core.PdfEditorBase;
 public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements Insertable<PdfPTable> {
 
     private final PdfPTable pdfTable;
+    /**
+     * The relative widths of the columns, used to fit the texts of the cells.
+     */
+    private float[] relativeWidths;
+    private float totalRelativeWidth;
+    /**
+     * The number of cells inserted by {@link #insertElement(Insertable)} and {@link #appendCells(PdfPCell[])}, to know
+     * the column of the next one.
+     */
+    private long insertedCells = 0;
 
     /**
      * Constructor for PdfPTableEditor.
      *
-     * @param pdfTable   The {@link PdfPTable} to be edited.
-     * @param pdfCommons The common configurations for the PDF.
+     * @param pdfTable       The {@link PdfPTable} to be edited.
+     * @param relativeWidths The relative widths of the columns.
+     * @param pdfCommons     The common configurations for the PDF.
      */
-    private PdfPTableEditor(PdfPTable pdfTable, PdfCommons pdfCommons) {
+    private PdfPTableEditor(PdfPTable pdfTable, float[] relativeWidths, PdfCommons pdfCommons) {
         super(pdfCommons);
         this.pdfTable = pdfTable;
+        this.setRelativeWidths(relativeWidths);
     }
 
     /**
@@ -34,7 +49,7 @@ public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements I
      * @param pdfCommons    The common configurations for the PDF.
      */
     public PdfPTableEditor(float[] relativeWidth, PdfCommons pdfCommons) {
-        this(new PdfPTable(relativeWidth), pdfCommons);
+        this(new PdfPTable(relativeWidth), relativeWidth.clone(), pdfCommons);
     }
 
     /**
@@ -44,7 +59,7 @@ public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements I
      * @param pdfCommons The common configurations for the PDF.
      */
     public PdfPTableEditor(int numColumns, PdfCommons pdfCommons) {
-        this(new PdfPTable(numColumns), pdfCommons);
+        this(new PdfPTable(numColumns), equalWidths(numColumns), pdfCommons);
     }
 
 
@@ -56,6 +71,49 @@ public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements I
      */
     @Override
     protected boolean insertElement(Insertable<?> insertable) {
+        var column = (int) (this.insertedCells++ % this.relativeWidths.length);
+        this.pdfTable.addCell(this.createCell(insertable, column));
+        return true;
+    }
+
+    /**
+     * This method is used to add cells created by {@link #createCell(Insertable, int)} to the table, in order.
+     * The cells are counted as inserted, so the elements inserted after them know their columns.
+     *
+     * @param cells The cells to be added.
+     */
+    void appendCells(PdfPCell[] cells) {
+        for (PdfPCell cell : cells) {
+            this.pdfTable.addCell(cell);
+        }
+        this.insertedCells += cells.length;
+    }
+
+    /**
+     * This method is used to create the cell of an element, without adding it to the table.
+     * Paragraphs without a font receive the default font, and the fallback fonts of the common configurations.
+     * It does not change the table, so it can be called concurrently.
+     *
+     * @param insertable The element to be converted.
+     * @return PdfPCell This returns the cell of the element.
+     */
+    PdfPCell createCell(Insertable<?> insertable) {
+        return this.createCell(insertable, -1);
+    }
+
+    /**
+     * This method is used to create the cell of an element in a column, without adding it to the table.
+     * Paragraphs without a font receive the default font, and the fallback fonts of the common configurations, and
+     * images the registry of the images and the default image compression of the document, and page slots the
+     * default font.
+     * Their texts are fitted in the width of the column, following the text overflow of the cell style.
+     * It does not change the table, so it can be called concurrently.
+     *
+     * @param insertable The element to be converted.
+     * @param column     The index of the column of the cell, or -1 if it is not known.
+     * @return PdfPCell This returns the cell of the element.
+     */
+    PdfPCell createCell(Insertable<?> insertable, int column) {
         SimpleTableCell<?> simpleCell;
         if (insertable instanceof SimpleTableCell) {
             simpleCell = (SimpleTableCell<?>) insertable;
@@ -64,13 +122,74 @@ public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements I
         }
         if (simpleCell.getContent() instanceof SimpleParagraph) {
             var paragraph = (SimpleParagraph) simpleCell.getContent();
-            if (paragraph.getFont() == null) {
-                SimpleParagraph ae = paragraph.withFont(this.getPdfCommons().getDefaultFont());
-                simpleCell = simpleCell.withContent(ae);
+            var resolved = paragraph;
+            if (resolved.getFont() == null) {
+                resolved = resolved.withFont(this.getPdfCommons().getDefaultFont());
+            }
+            if (resolved.getFallbackChain() == null && resolved.getFont() != null) {
+                var fallbackChain = this.getPdfCommons().getFallbackChain(resolved.getFont());
+                if (fallbackChain != null) {
+                    resolved = resolved.withFallbackChain(fallbackChain);
+                }
+            }
+            if (resolved != paragraph) {
+                simpleCell = simpleCell.withContent(resolved);
+            }
+            var width = this.getColumnWidth(column);
+            if (width > 0) {
+                return simpleCell.fitTo(width).getElement();
+            }
+        } else if (simpleCell.getContent() instanceof PdfImage) {
+            var image = (PdfImage) simpleCell.getContent();
+            var resolved = this.getPdfCommons().resolveImage(image);
+            if (resolved != image) {
+                simpleCell = simpleCell.withContent(resolved);
+            }
+        } else if (simpleCell.getContent() instanceof PageSlot) {
+            var slot = (PageSlot) simpleCell.getContent();
+            if (slot.getFont() == null && this.getPdfCommons().getDefaultFont() != null) {
+                simpleCell = simpleCell.withContent(slot.withFont(this.getPdfCommons().getDefaultFont()));
             }
         }
-        this.pdfTable.addCell(simpleCell.getElement());
-        return true;
+        return simpleCell.getElement();
+    }
+
+    /**
+     * This method is used to get the width a column will have in the page, before the table is laid out.
+     *
+     * @param column The index of the column.
+     * @return The width of the column, in points, or -1 if it is not known.
+     */
+    float getColumnWidth(int column) {
+        if (column < 0 || column >= this.relativeWidths.length) {
+            return -1;
+        }
+        float tableWidth;
+        if (this.pdfTable.isLockedWidth()) {
+            tableWidth = this.pdfTable.getTotalWidth();
+        } else {
+            var pageConfiguration = this.getPdfCommons().getPageConfiguration();
+            if (pageConfiguration == null) {
+                return -1;
+            }
+            tableWidth = pageConfiguration.getUtilizableWidth() * this.pdfTable.getWidthPercentage() / 100f;
+        }
+        return tableWidth * this.relativeWidths[column] / this.totalRelativeWidth;
+    }
+
+    private void setRelativeWidths(float[] relativeWidths) {
+        var total = 0f;
+        for (float width : relativeWidths) {
+            total += width;
+        }
+        this.relativeWidths = relativeWidths;
+        this.totalRelativeWidth = total;
+    }
+
+    private static float[] equalWidths(int numColumns) {
+        var widths = new float[numColumns];
+        Arrays.fill(widths, 1f);
+        return widths;
     }
 
 
@@ -112,6 +231,7 @@ public class PdfPTableEditor extends PdfEditorBase<PdfPTableEditor> implements I
      */
     public PdfPTableEditor setColumnsWidth(float[] columnsWidth) {
         this.pdfTable.setTotalWidth(columnsWidth);
+        this.setRelativeWidths(columnsWidth.clone());
         return this;
     }
 
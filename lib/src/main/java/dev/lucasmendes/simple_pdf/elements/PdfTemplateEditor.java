@@ -0,0 +1,120 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfContentByte;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.core.PdfEditorBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * This is a concrete class that extends {@link PdfEditorBase}.
+ * It collects the elements of a header or a footer, to lay them out once into a {@link PageTemplate} that is stamped
+ * on every page.
+ * The texts that change on every page are {@link #slot(IntFunction) slots} added to the cells of a table.
+ * Streaming tables cannot be added to a template.
+ */
+public class PdfTemplateEditor extends PdfEditorBase<PdfTemplateEditor> {
+    /**
+     * The largest height a template can have, in points.
+     */
+    private static final float MAXIMUM_HEIGHT = 14400f;
+
+    private final List<Insertable<?>> elements = new ArrayList<>();
+    private final List<PageSlot.Placement> placements = new ArrayList<>();
+
+    /**
+     * Constructor for PdfTemplateEditor.
+     *
+     * @param pdfCommons The common configurations for the PDF.
+     */
+    public PdfTemplateEditor(PdfCommons pdfCommons) {
+        super(pdfCommons);
+    }
+
+    /**
+     * This method is used to add an element to the template.
+     *
+     * @param insertable The element to be added.
+     * @return boolean This returns false for the {@link IncrementalInsertable} elements, that cannot be laid out
+     * in advance.
+     */
+    @Override
+    protected boolean insertElement(Insertable<?> insertable) {
+        if (insertable instanceof IncrementalInsertable) {
+            return false;
+        }
+        return this.elements.add(insertable);
+    }
+
+    @Override
+    protected PdfTemplateEditor getT() {
+        return this;
+    }
+
+    /**
+     * Adds a table to the template with specified relative widths.
+     *
+     * @param relativeWidth array of relative widths for the columns.
+     * @param editTable     {@link Consumer} functional interface to edit the table.
+     * @return this {@link PdfTemplateEditor} object.
+     */
+    public PdfTemplateEditor addTable(float[] relativeWidth, Consumer<PdfPTableEditor> editTable) {
+        editTable.andThen(this::add).accept(new PdfPTableEditor(relativeWidth, this.getPdfCommons()));
+        return this;
+    }
+
+    /**
+     * Adds a table to the template with specified number of columns.
+     *
+     * @param numColumns number of columns in the table.
+     * @param editTable  {@link Consumer} functional interface to edit the table.
+     * @return this {@link PdfTemplateEditor} object.
+     */
+    public PdfTemplateEditor addTable(int numColumns, Consumer<PdfPTableEditor> editTable) {
+        editTable.andThen(this::add).accept(new PdfPTableEditor(numColumns, this.getPdfCommons()));
+        return this;
+    }
+
+    /**
+     * This method is used to create a text that changes on every page, to be added to a cell of a table of the
+     * template.
+     *
+     * @param text The text of the slot for the number of a page.
+     * @return The slot, aligned to the left and to the middle of its cell, with the default font.
+     */
+    public PageSlot slot(IntFunction<String> text) {
+        return new PageSlot(text, this.placements);
+    }
+
+    /**
+     * This method is used to lay the elements out into a template with their height.
+     * The elements are laid out twice: once to measure their height, and once into the template.
+     *
+     * @param canvas The canvas of the document, that creates the template.
+     * @param width  The width of the template, in points.
+     * @return The template.
+     */
+    public PageTemplate layout(PdfContentByte canvas, float width) {
+        var measure = new ColumnText(null);
+        measure.setSimpleColumn(0, 0, width, MAXIMUM_HEIGHT);
+        for (Insertable<?> element : this.elements) {
+            measure.addElement(element.getElement());
+        }
+        measure.go(true);
+        var height = (float) Math.ceil(MAXIMUM_HEIGHT - measure.getYLine());
+
+        this.placements.clear();
+        var template = canvas.createTemplate(width, height);
+        var column = new ColumnText(template);
+        column.setSimpleColumn(0, 0, width, height);
+        for (Insertable<?> element : this.elements) {
+            column.addElement(element.getElement());
+        }
+        column.go();
+        return new PageTemplate(template, height, new ArrayList<>(this.placements), this.getDefaultFont());
+    }
+}
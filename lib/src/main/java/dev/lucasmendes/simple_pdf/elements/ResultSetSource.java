@@ -0,0 +1,287 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import dev.lucasmendes.simple_pdf.exceptions.CouldNotCreateException;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * This class is used to write the rows of a {@link ResultSet} to a {@link StreamingDataTable}, without copying them
+ * to objects.
+ * <p>
+ * The result set itself is the item of every row: {@link #iterator()} moves its cursor, and the columns read the
+ * values of the current row with the typed getters of the result set, so no object is created per row.
+ * The headers are the labels of the columns in the {@link java.sql.ResultSetMetaData}.
+ * <p>
+ * The result set is read only once and it is not closed, closing it is up to the caller.
+ * <p>
+ * Most drivers read the whole result of a query into memory unless the fetch size is set on the statement before the
+ * query is executed, so a large query should be given as a {@link PreparedStatement}, see
+ * {@link #of(PreparedStatement, int)}. The fetch size of a result set that is already executed is only a hint.
+ */
+@Getter
+@ToString
+public class ResultSetSource implements Iterable<ResultSet> {
+    /**
+     * The default number of rows fetched from the database at a time.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    @Nonnull
+    @ToString.Exclude
+    private final ResultSet resultSet;
+    @Nonnull
+    private final List<String> labels;
+    @Nonnull
+    private final List<Integer> types;
+
+    private ResultSetSource(@Nonnull ResultSet resultSet) throws SQLException {
+        this.resultSet = resultSet;
+        var metaData = resultSet.getMetaData();
+        var columnCount = metaData.getColumnCount();
+        this.labels = new ArrayList<>(columnCount);
+        this.types = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            this.labels.add(metaData.getColumnLabel(i));
+            this.types.add(metaData.getColumnType(i));
+        }
+    }
+
+    /**
+     * This method is used to create a source that fetches {@link #DEFAULT_FETCH_SIZE} rows at a time.
+     *
+     * @param resultSet The result set, positioned before the first row.
+     * @return The source of the result set.
+     * @throws CouldNotCreateException If the metadata of the result set could not be read.
+     */
+    public static ResultSetSource of(@Nonnull ResultSet resultSet) {
+        return of(resultSet, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * This method is used to create a source of a result set.
+     * The query has already been executed, so the fetch size is only a hint: PostgreSQL and MySQL, among others, have
+     * already read every row into memory. Use {@link #of(PreparedStatement, int)} to stream the rows.
+     *
+     * @param resultSet The result set, positioned before the first row.
+     * @param fetchSize The number of rows fetched from the database at a time, a hint for the driver.
+     * @return The source of the result set.
+     * @throws CouldNotCreateException If the metadata of the result set could not be read.
+     */
+    public static ResultSetSource of(@Nonnull ResultSet resultSet, int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be greater than zero");
+        }
+        try {
+            resultSet.setFetchSize(fetchSize);
+            return new ResultSetSource(resultSet);
+        } catch (SQLException e) {
+            throw new CouldNotCreateException("Could not read the result set", e);
+        }
+    }
+
+    /**
+     * This method is used to execute a query that fetches {@link #DEFAULT_FETCH_SIZE} rows at a time and to create a
+     * source of its result set.
+     *
+     * @param statement The statement of the query, with its parameters set.
+     * @return The source of the result set of the query.
+     * @throws CouldNotCreateException If the query could not be executed.
+     * @see #of(PreparedStatement, int)
+     */
+    public static ResultSetSource of(@Nonnull PreparedStatement statement) {
+        return of(statement, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * This method is used to execute a query with a fetch size and to create a source of its result set, so the
+     * driver reads the rows from the database while they are written instead of all of them at once.
+     * <p>
+     * The fetch size is set on the statement before the query is executed, as the drivers require, but some of them
+     * have more requirements to stream the rows:
+     * <ul>
+     *     <li>PostgreSQL streams only when the auto-commit of the connection is off and the result set is forward
+     *     only, so the query must run in a transaction;</li>
+     *     <li>MySQL streams one row at a time with a fetch size of {@link Integer#MIN_VALUE}, or with the given fetch
+     *     size when the connection has {@code useCursorFetch=true}.</li>
+     * </ul>
+     * Closing the statement, which closes the result set, is up to the caller.
+     *
+     * @param statement The statement of the query, with its parameters set.
+     * @param fetchSize The number of rows fetched from the database at a time, or {@link Integer#MIN_VALUE} for the
+     *                  row by row streaming of MySQL.
+     * @return The source of the result set of the query.
+     * @throws CouldNotCreateException If the query could not be executed.
+     */
+    public static ResultSetSource of(@Nonnull PreparedStatement statement, int fetchSize) {
+        if (fetchSize <= 0 && fetchSize != Integer.MIN_VALUE) {
+            throw new IllegalArgumentException("fetchSize must be greater than zero");
+        }
+        try {
+            statement.setFetchSize(fetchSize);
+            return new ResultSetSource(statement.executeQuery());
+        } catch (SQLException e) {
+            throw new CouldNotCreateException("Could not execute the query", e);
+        }
+    }
+
+    /**
+     * This method is used to get the columns of the result set, one for each column of the query.
+     *
+     * @return The columns of the result set.
+     */
+    public List<DataTableColumn<ResultSet>> getColumns() {
+        return this.getColumns(Map.of());
+    }
+
+    /**
+     * This method is used to get the columns of the result set, one for each column of the query.
+     *
+     * @param customExtractor The extractors that replace the typed getters, by column label.
+     * @return The columns of the result set.
+     */
+    public List<DataTableColumn<ResultSet>> getColumns(@Nonnull Map<String, Function<ResultSet, String>> customExtractor) {
+        var columns = new ArrayList<DataTableColumn<ResultSet>>(this.labels.size());
+        for (int i = 0; i < this.labels.size(); i++) {
+            var label = this.labels.get(i);
+            var extractor = customExtractor.get(label);
+            if (extractor == null) {
+                extractor = reader(i + 1, this.types.get(i));
+            }
+            columns.add(new DataTableColumn<>(label, label, extractor));
+        }
+        return columns;
+    }
+
+    /**
+     * This method is used to iterate over the rows of the result set.
+     * Every call to {@link Iterator#next()} moves the cursor of the result set and returns the result set itself.
+     *
+     * @return An iterator over the rows.
+     */
+    @Override
+    public Iterator<ResultSet> iterator() {
+        return new Iterator<>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (this.hasNext == null) {
+                    try {
+                        this.hasNext = ResultSetSource.this.resultSet.next();
+                    } catch (SQLException e) {
+                        throw new CouldNotCreateException("Could not read the next row of the result set", e);
+                    }
+                }
+                return this.hasNext;
+            }
+
+            @Override
+            public ResultSet next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.hasNext = null;
+                return ResultSetSource.this.resultSet;
+            }
+        };
+    }
+
+    /**
+     * This method is used to create the extractor of a column, with the getter of its SQL type.
+     *
+     * @param index   The index of the column, starting at 1.
+     * @param sqlType The type of the column, from {@link Types}.
+     * @return The extractor of the column.
+     */
+    private static Function<ResultSet, String> reader(int index, int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return read(resultSet -> {
+                    var value = resultSet.getInt(index);
+                    return resultSet.wasNull() ? null : Integer.toString(value);
+                });
+            case Types.BIGINT:
+                return read(resultSet -> {
+                    var value = resultSet.getLong(index);
+                    return resultSet.wasNull() ? null : Long.toString(value);
+                });
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return read(resultSet -> {
+                    var value = resultSet.getDouble(index);
+                    return resultSet.wasNull() ? null : Double.toString(value);
+                });
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return read(resultSet -> {
+                    var value = resultSet.getBoolean(index);
+                    return resultSet.wasNull() ? null : Boolean.toString(value);
+                });
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return read(resultSet -> {
+                    BigDecimal value = resultSet.getBigDecimal(index);
+                    return value == null ? null : value.toPlainString();
+                });
+            case Types.DATE:
+                return readObject(index, LocalDate.class);
+            case Types.TIME:
+                return readObject(index, LocalTime.class);
+            case Types.TIME_WITH_TIMEZONE:
+                return readObject(index, OffsetTime.class);
+            case Types.TIMESTAMP:
+                return readObject(index, LocalDateTime.class);
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return readObject(index, OffsetDateTime.class);
+            default:
+                return read(resultSet -> resultSet.getString(index));
+        }
+    }
+
+    private static Function<ResultSet, String> readObject(int index, Class<?> type) {
+        return read(resultSet -> {
+            var value = resultSet.getObject(index, type);
+            return value == null ? null : value.toString();
+        });
+    }
+
+    private static Function<ResultSet, String> read(SqlReader reader) {
+        return resultSet -> {
+            try {
+                var value = reader.read(resultSet);
+                return value == null ? ColumnExtractors.NULL_VALUE : value;
+            } catch (SQLException e) {
+                throw new CouldNotCreateException("Could not read a value of the result set", e);
+            }
+        };
+    }
+
+    /**
+     * A getter of the value of a column in the current row.
+     */
+    @FunctionalInterface
+    private interface SqlReader {
+        String read(ResultSet resultSet) throws SQLException;
+    }
+}
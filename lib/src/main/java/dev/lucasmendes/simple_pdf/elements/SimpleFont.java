@@ -1,11 +1,16 @@
 package dev.lucasmendes.simple_pdf.elements;
 
+import dev.lucasmendes.simple_pdf.enums.FontLoading;
 import dev.lucasmendes.simple_pdf.enums.FontStyle;
 import com.lowagie.text.Font;
 import com.lowagie.text.pdf.BaseFont;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.With;
 
 import javax.annotation.Nonnull;
@@ -16,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class represents a font that can be used in a PDF document.
@@ -25,6 +31,12 @@ import java.nio.file.Path;
 @Builder
 public class SimpleFont {
     public static final float DEFAULT_FONT_SIZE = -1.0F;
+    private static final String ELLIPSIS = "\u2026";
+    private static final String ASCII_ELLIPSIS = "...";
+    /**
+     * The step of the sizes chosen by {@link #fitSize(CharSequence, float, float)}, so the texts share few fonts.
+     */
+    private static final float SIZE_STEP = 0.25F;
 
     @Nonnull
     private final Font openPdfFont;
@@ -39,6 +51,20 @@ public class SimpleFont {
     @With
     @Nullable
     private final Color color;
+    /**
+     * The variant of {@link #openPdfFont} with the size, the style and the color of this font, created once.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicReference<Font> derivedFont = new AtomicReference<>();
+    /**
+     * The metrics of the base font of {@link #openPdfFont}, read once.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicReference<FontMetrics> metrics = new AtomicReference<>();
 
     public SimpleFont(@Nonnull Font openPdfFont, @Nonnull String name) {
         this(openPdfFont, name, DEFAULT_FONT_SIZE, FontStyle.UNDEFINED, null);
@@ -48,20 +74,47 @@ public class SimpleFont {
         this(openPdfFont, openPdfFont.getFamilyname());
     }
 
+    /**
+     * This method is used to create a font from a TrueType or OpenType file.
+     * The parsed font is shared through the {@link FontCache#global()} cache, so each file is parsed once.
+     *
+     * @param fontFile The font file.
+     * @return The font, named after its family.
+     * @throws FileSystemException   If the path is a directory.
+     * @throws FileNotFoundException If the file does not exist.
+     */
     public static SimpleFont fromFile(@Nonnull Path fontFile) throws FileSystemException, FileNotFoundException {
         return SimpleFont.fromFile(fontFile, null);
     }
 
     public static SimpleFont fromFile(@Nonnull Path fontFile, @Nullable String name) throws FileSystemException, FileNotFoundException {
+        return SimpleFont.fromFile(fontFile, name, FontLoading.MEMORY_MAPPED);
+    }
+
+    /**
+     * This method is used to create a font from a TrueType or OpenType file.
+     * The parsed font is shared through the {@link FontCache#global()} cache, so each file is parsed once.
+     *
+     * @param fontFile The font file.
+     * @param name     The name of the font, or null to use the name of its family.
+     * @param loading  The way the tables of the file are read, memory-mapped or to the heap.
+     * @return The font.
+     * @throws FileSystemException   If the path is a directory.
+     * @throws FileNotFoundException If the file does not exist.
+     */
+    public static SimpleFont fromFile(
+            @Nonnull Path fontFile,
+            @Nullable String name,
+            @Nonnull FontLoading loading
+    ) throws FileSystemException, FileNotFoundException {
         if (Files.isDirectory(fontFile)) {
             throw new FileSystemException("\"" + fontFile + "\" is not a file");
         }
         if (!Files.exists(fontFile)) {
             throw new FileNotFoundException("\"" + fontFile + "\" not exists");
         }
-        var path = fontFile.toAbsolutePath().toString();
         try {
-            var baseFont = BaseFont.createFont(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            var baseFont = FontCache.global().get(fontFile, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, loading);
             var openPdfFont = new Font(baseFont, 12);
             return name == null ? new SimpleFont(openPdfFont) : new SimpleFont(openPdfFont, name);
         } catch (IOException e) {
@@ -69,15 +122,120 @@ public class SimpleFont {
         }
     }
 
+    /**
+     * This method is used to get the metrics of the font, to measure texts.
+     *
+     * @return The metrics of the font.
+     */
+    @Nonnull
+    public FontMetrics getMetrics() {
+        var fontMetrics = this.metrics.get();
+        if (fontMetrics == null) {
+            fontMetrics = FontMetrics.of(this.openPdfFont.getCalculatedBaseFont(false));
+            this.metrics.set(fontMetrics);
+        }
+        return fontMetrics;
+    }
+
+    /**
+     * This method is used to get the width of a text written with this font, without kerning.
+     * The widths are read from the shared table of the {@link #getMetrics() metrics}, so it can be called concurrently.
+     *
+     * @param text The text.
+     * @return The width of the text, in points.
+     */
+    public float measure(@Nonnull CharSequence text) {
+        var width = this.getMetrics().getWidth(text, 0, text.length(), this.openPdfFont.getCalculatedBaseFont(false));
+        return width * this.getOpenPdfFont().getCalculatedSize() / 1000f;
+    }
+
+    /**
+     * This method is used to get the length of the longest start of a text that fits in a width.
+     * A surrogate pair is never split.
+     *
+     * @param text     The text.
+     * @param maxWidth The width, in points.
+     * @return The number of characters of the text that fit.
+     */
+    public int fitLength(@Nonnull CharSequence text, float maxWidth) {
+        var metrics = this.getMetrics();
+        var baseFont = this.openPdfFont.getCalculatedBaseFont(false);
+        var limit = maxWidth * 1000f / this.getOpenPdfFont().getCalculatedSize();
+        var total = 0L;
+        var length = text.length();
+        var i = 0;
+        while (i < length) {
+            var character = text.charAt(i);
+            var next = i + 1;
+            int width;
+            if (Character.isHighSurrogate(character) && next < length && Character.isLowSurrogate(text.charAt(next))) {
+                width = metrics.getSupplementaryWidth(Character.toCodePoint(character, text.charAt(next++)), baseFont);
+            } else {
+                width = metrics.getWidth(character);
+            }
+            total += width;
+            if (total > limit) {
+                break;
+            }
+            i = next;
+        }
+        return i;
+    }
+
+    /**
+     * This method is used to shorten a text that does not fit in a width, ending it with an ellipsis.
+     *
+     * @param text     The text.
+     * @param maxWidth The width, in points.
+     * @return The text, if it fits, otherwise its longest start that fits with the ellipsis.
+     */
+    @Nonnull
+    public String truncate(@Nonnull String text, float maxWidth) {
+        var length = this.fitLength(text, maxWidth);
+        if (length == text.length()) {
+            return text;
+        }
+        var ellipsis = this.getMetrics().canDisplay(ELLIPSIS.charAt(0)) ? ELLIPSIS : ASCII_ELLIPSIS;
+        length = this.fitLength(text, maxWidth - this.measure(ellipsis));
+        return text.substring(0, length).stripTrailing() + ellipsis;
+    }
+
+    /**
+     * This method is used to get the size of this font that makes a text fit in a width.
+     * The size is rounded down to a quarter of a point, so the texts share few fonts.
+     *
+     * @param text        The text.
+     * @param maxWidth    The width, in points.
+     * @param minimumSize The smallest size to return.
+     * @return The size of this font if the text fits, otherwise the largest size that fits, but not below the minimum.
+     */
+    public float fitSize(@Nonnull CharSequence text, float maxWidth, float minimumSize) {
+        var size = this.getOpenPdfFont().getCalculatedSize();
+        var width = this.measure(text);
+        if (width <= maxWidth) {
+            return size;
+        }
+        var fitting = (float) Math.floor(size * maxWidth / width / SIZE_STEP) * SIZE_STEP;
+        return Math.max(minimumSize, fitting);
+    }
+
     public SimpleFont withIncreaseSize(float size) {
         return this.withSize(this.size + size);
     }
 
+    /**
+     * This method is used to get the OpenPDF font with the size, the style and the color of this font.
+     * The font is shared by every font with the same base font and attributes, so it must not be changed.
+     *
+     * @return The OpenPDF font.
+     */
     @Nonnull
     public Font getOpenPdfFont() {
-        this.openPdfFont.setStyle(this.style.getValue());
-        this.openPdfFont.setSize(this.size);
-        this.openPdfFont.setColor(color);
-        return openPdfFont;
+        var font = this.derivedFont.get();
+        if (font == null) {
+            font = DerivedFonts.derive(this.openPdfFont, this.size, this.style.getValue(), this.color);
+            this.derivedFont.set(font);
+        }
+        return font;
     }
 }
@@ -21,24 +21,59 @@ import javax.annotation.Nullable;
 public class SimpleParagraph extends AbstractElement<Paragraph> {
     private final String text;
     private final SimpleFont font;
+    /**
+     * The fonts of the characters the font cannot display, or null to use the font for every character.
+     */
+    private final FontFallbackChain fallbackChain;
 
     /**
      * Constructor for PdfParagraph.
      *
      * @param text                The text of the paragraph.
      * @param font                The font of the paragraph.
+     * @param fallbackChain       The chain of the font, or null to use the font for every character.
      * @param horizontalAlignment The horizontal alignment of the paragraph.
      * @param verticalAlignment   The vertical alignment of the paragraph.
      */
     public SimpleParagraph(
             @Nonnull String text,
             @Nullable SimpleFont font,
+            @Nullable FontFallbackChain fallbackChain,
             @Nonnull HorizontalAlignment horizontalAlignment,
             @Nonnull VerticalAlignment verticalAlignment
     ) {
         super(horizontalAlignment, verticalAlignment);
         this.text = text;
         this.font = font;
+        this.fallbackChain = fallbackChain;
+    }
+
+    /**
+     * Constructor for PdfParagraph without fallback fonts.
+     *
+     * @param text                The text of the paragraph.
+     * @param font                The font of the paragraph.
+     * @param horizontalAlignment The horizontal alignment of the paragraph.
+     * @param verticalAlignment   The vertical alignment of the paragraph.
+     */
+    public SimpleParagraph(
+            @Nonnull String text,
+            @Nullable SimpleFont font,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment
+    ) {
+        this(text, font, null, horizontalAlignment, verticalAlignment);
+    }
+
+    /**
+     * Constructor for PdfParagraph with fallback fonts and default alignments.
+     *
+     * @param text          The text of the paragraph.
+     * @param font          The font of the paragraph.
+     * @param fallbackChain The chain of the font, or null to use the font for every character.
+     */
+    public SimpleParagraph(@Nonnull String text, @Nullable SimpleFont font, @Nullable FontFallbackChain fallbackChain) {
+        this(text, font, fallbackChain, HorizontalAlignment.LEFT, VerticalAlignment.TOP);
     }
 
     /**
@@ -80,7 +115,9 @@ public class SimpleParagraph extends AbstractElement<Paragraph> {
             // TODO: Add the exception to method signature and javadocs
             throw new RuntimeException("Cannot create a paragraph without a font");
         }
-        var paragraph = new Paragraph(this.text, this.font.getOpenPdfFont());
+        var paragraph = this.fallbackChain != null
+                ? this.fallbackChain.createParagraph(this.text)
+                : new Paragraph(this.text, this.font.getOpenPdfFont());
         paragraph.setAlignment(this.getVerticalAlignment().getValue());
         return paragraph;
     }
@@ -93,7 +130,7 @@ public class SimpleParagraph extends AbstractElement<Paragraph> {
      */
     @Override
     public SimpleParagraph withVerticalAlignment(@Nonnull VerticalAlignment alignment) {
-        return new SimpleParagraph(this.text, this.font, this.getHorizontalAlignment(), alignment);
+        return new SimpleParagraph(this.text, this.font, this.fallbackChain, this.getHorizontalAlignment(), alignment);
     }
 
     /**
@@ -104,11 +141,11 @@ public class SimpleParagraph extends AbstractElement<Paragraph> {
      */
     @Override
     public SimpleParagraph withHorizontalAlignment(@Nonnull HorizontalAlignment alignment) {
-        return new SimpleParagraph(this.text, this.font, alignment, this.getVerticalAlignment());
+        return new SimpleParagraph(this.text, this.font, this.fallbackChain, alignment, this.getVerticalAlignment());
     }
 
     /**
-     * This method is used to set the font.
+     * This method is used to set the font, without fallback fonts.
      *
      * @param font The font to be set.
      * @return PdfParagraph This returns a PdfParagraph with the font set.
@@ -117,6 +154,38 @@ public class SimpleParagraph extends AbstractElement<Paragraph> {
         return new SimpleParagraph(this.text, font, this.getHorizontalAlignment(), this.getVerticalAlignment());
     }
 
+    /**
+     * This method is used to set the text.
+     *
+     * @param text The text to be set.
+     * @return PdfParagraph This returns a PdfParagraph with the text set.
+     */
+    public SimpleParagraph withText(@Nonnull String text) {
+        return new SimpleParagraph(
+                text,
+                this.font,
+                this.fallbackChain,
+                this.getHorizontalAlignment(),
+                this.getVerticalAlignment()
+        );
+    }
+
+    /**
+     * This method is used to set the fallback fonts, the primary font of the chain becomes the font of the paragraph.
+     *
+     * @param fallbackChain The chain of fonts to be set.
+     * @return PdfParagraph This returns a PdfParagraph with the font and the fallback fonts set.
+     */
+    public SimpleParagraph withFallbackChain(@Nonnull FontFallbackChain fallbackChain) {
+        return new SimpleParagraph(
+                this.text,
+                fallbackChain.getPrimary(),
+                fallbackChain,
+                this.getHorizontalAlignment(),
+                this.getVerticalAlignment()
+        );
+    }
+
     /**
      * Verify if a font was set
      *
@@ -5,7 +5,9 @@ import com.lowagie.text.Image;
 import com.lowagie.text.pdf.PdfPCell;
 import dev.lucasmendes.simple_pdf.configurations.SimpleCellStyle;
 import dev.lucasmendes.simple_pdf.default_events.ImageAlignmentInPdfPCellEvent;
+import dev.lucasmendes.simple_pdf.default_events.PositionInPdfPCellEvent;
 import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.TextOverflow;
 import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
 import dev.lucasmendes.simple_pdf.exceptions.ElementNotSupportedException;
 import dev.lucasmendes.simple_pdf.models.Size;
@@ -15,12 +17,22 @@ import lombok.ToString;
 import lombok.With;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Optional;
 
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
 public class SimpleTableCell<E extends Element> extends AbstractElement<PdfPCell> {
+    /**
+     * The padding of a {@link PdfPCell} without a padding in the style.
+     */
+    private static final float DEFAULT_PADDING = 2f;
+    /**
+     * The smallest size of the fonts shrunk by {@link TextOverflow#SHRINK_TO_FIT}.
+     */
+    public static final float MINIMUM_FONT_SIZE = 4f;
+
     @Nonnull
     private final SimpleCellStyle style;
     @Nonnull
@@ -69,6 +81,67 @@ public class SimpleTableCell<E extends Element> extends AbstractElement<PdfPCell
         return new SimpleTableCell<>(this.getHorizontalAlignment(), this.getVerticalAlignment(), this.style, content);
     }
 
+    /**
+     * This method is used to fit the text of the cell in the width of its column, following the
+     * {@link SimpleCellStyle#getTextOverflow() text overflow} of the style.
+     * The text is measured with the font of the paragraph, so the row is kept to one line without laying it out.
+     *
+     * @param width The width of the column, in points.
+     * @return The cell with the text fitted, or this cell if the text fits, is wrapped or is not a paragraph with a
+     * font.
+     */
+    public SimpleTableCell<?> fitTo(float width) {
+        var overflow = this.style.getTextOverflow();
+        if (overflow == null || overflow == TextOverflow.WRAP || !(this.content instanceof SimpleParagraph)) {
+            return this;
+        }
+        var paragraph = (SimpleParagraph) this.content;
+        var font = paragraph.getFont();
+        if (font == null) {
+            return this;
+        }
+        var available = width - this.getHorizontalPadding();
+        var text = paragraph.getText();
+        if (overflow == TextOverflow.SHRINK_TO_FIT) {
+            var size = font.fitSize(text, available, MINIMUM_FONT_SIZE);
+            if (size != font.getOpenPdfFont().getCalculatedSize()) {
+                var fallbackChain = paragraph.getFallbackChain();
+                paragraph = fallbackChain != null
+                        ? paragraph.withFallbackChain(fallbackChain.withSize(size))
+                        : paragraph.withFont(font.withSize(size));
+                font = paragraph.getFont();
+            }
+        }
+        var truncated = font.truncate(text, available);
+        if (!truncated.equals(text)) {
+            paragraph = paragraph.withText(truncated);
+        }
+        return paragraph == this.content ? this : this.withContent(paragraph);
+    }
+
+    /**
+     * This method is used to get the width the text of the cell needs to be written in one line.
+     *
+     * @param defaultFont The font of a paragraph without a font, or null.
+     * @return The width of the text with the padding, in points, or 0 if the content is not a paragraph with a font.
+     */
+    public float measure(@Nullable SimpleFont defaultFont) {
+        if (!(this.content instanceof SimpleParagraph)) {
+            return 0;
+        }
+        var paragraph = (SimpleParagraph) this.content;
+        var font = paragraph.hasFont() ? paragraph.getFont() : defaultFont;
+        if (font == null) {
+            return 0;
+        }
+        return font.measure(paragraph.getText()) + this.getHorizontalPadding();
+    }
+
+    private float getHorizontalPadding() {
+        var padding = this.style.getPadding();
+        return padding != null ? padding.getLeft() + padding.getRight() : 2 * DEFAULT_PADDING;
+    }
+
     @Override
     public PdfPCell getElement() {
         final var cell = new PdfPCell();
@@ -86,6 +159,13 @@ public class SimpleTableCell<E extends Element> extends AbstractElement<PdfPCell
             cell.setPhrase(paragraph.getElement());
             cell.setHorizontalAlignment(paragraph.getHorizontalAlignment().getValue());
             cell.setVerticalAlignment(paragraph.getVerticalAlignment().getValue());
+            if (this.style.getTextOverflow() != null && this.style.getTextOverflow() != TextOverflow.WRAP) {
+                cell.setNoWrap(true);
+            }
+        } else if (this.content instanceof PageSlot) {
+            var slot = (PageSlot) this.content;
+            cell.setPhrase(slot.getElement());
+            cell.setCellEvent(new PositionInPdfPCellEvent(slot::place));
         } else {
             throw new ElementNotSupportedException(String.format("Element %s is not supported", this.content.getName()));
         }
@@ -0,0 +1,335 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfPTable;
+import dev.lucasmendes.simple_pdf.configurations.DataTableStyle;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.configurations.PdfWidth;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to create a table with the data of a sequence of objects that is read only once.
+ * <p>
+ * Unlike {@link DataTable}, the items are pulled from an {@link Iterator} while the table is written, and
+ * every {@link #getFlushEvery()} rows the table is flushed to the document using the incomplete table mode of
+ * {@link PdfPTable}, so the rows already written can be released. The header is repeated on every page.
+ * <p>
+ * The items can be consumed only once: after being inserted, the table is empty.
+ *
+ * @param <T> The type of the objects in the sequence.
+ */
+@Getter
+@ToString(callSuper = true)
+public class StreamingDataTable<T> extends AbstractElement<PdfPTable> implements IncrementalInsertable<PdfPTable> {
+    /**
+     * The default number of rows between two flushes.
+     */
+    public static final int DEFAULT_FLUSH_EVERY = 500;
+
+    @Nonnull
+    private final PdfCommons pdfCommons;
+    @Nonnull
+    @ToString.Exclude
+    private final Iterator<T> items;
+    @Nonnull
+    private final List<DataTableColumn<T>> columns;
+    @Nonnull
+    private final DataTableStyle style;
+    private final int flushEvery;
+
+    public StreamingDataTable(
+            @Nonnull PdfCommons pdfCommons,
+            @Nonnull Iterator<T> items,
+            @Nonnull List<DataTableColumn<T>> columns,
+            @Nonnull DataTableStyle style,
+            int flushEvery,
+            @Nonnull HorizontalAlignment horizontalAlignment,
+            @Nonnull VerticalAlignment verticalAlignment
+    ) {
+        super(horizontalAlignment, verticalAlignment);
+        if (flushEvery <= 0) {
+            throw new IllegalArgumentException("flushEvery must be greater than zero");
+        }
+        this.pdfCommons = pdfCommons;
+        this.items = items;
+        this.columns = columns;
+        this.style = style;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * This method is used to write the table to the document, flushing it every {@link #getFlushEvery()} rows.
+     *
+     * @param document The document that receives the table.
+     * @return boolean This returns true if the table was inserted successfully.
+     */
+    @Override
+    public boolean insertInto(Document document) {
+        var tableEditor = this.createTable();
+        var table = tableEditor.getElement();
+        table.setComplete(false);
+        var rows = 0;
+        while (this.items.hasNext()) {
+            this.addRow(tableEditor, this.items.next(), rows++);
+            if (rows % this.flushEvery == 0 && !document.add(table)) {
+                return false;
+            }
+        }
+        table.setComplete(true);
+        return document.add(table);
+    }
+
+    /**
+     * This method is used to get the table with all the remaining items.
+     * The whole table is kept in memory, prefer {@link #insertInto(Document)} when the table is inserted into a
+     * document.
+     *
+     * @return A table with the data of the remaining items.
+     */
+    @Override
+    public PdfPTable getElement() {
+        var tableEditor = this.createTable();
+        var rows = 0;
+        while (this.items.hasNext()) {
+            this.addRow(tableEditor, this.items.next(), rows++);
+        }
+        return tableEditor.getElement();
+    }
+
+    /**
+     * This method is used to create the table with its header.
+     *
+     * @return A table editor with the header added.
+     */
+    private PdfPTableEditor createTable() {
+        var tableEditor = new PdfPTableEditor(this.columns.size(), this.pdfCommons);
+        tableEditor.setWidth(PdfWidth.max());
+        tableEditor.getElement().setHeaderRows(1);
+        for (DataTableColumn<T> column : this.columns) {
+            tableEditor.add(this.style.getHeaderRowCellStyle().apply(column.getHeader()));
+        }
+        return tableEditor;
+    }
+
+    /**
+     * This method is used to add an item to the table.
+     *
+     * @param tableEditor A table editor to add the item.
+     * @param item        The item of the row.
+     * @param rowIndex    The index of the row.
+     */
+    private void addRow(PdfPTableEditor tableEditor, T item, int rowIndex) {
+        final var defaultRowInfo = new DataTableStyle.CellInfo("", rowIndex);
+        for (DataTableColumn<T> column : this.columns) {
+            var rowInfo = defaultRowInfo.withRowData(column.extract(item));
+            tableEditor.add(this.style.getBodyRowCellStyle().apply(rowInfo));
+        }
+    }
+
+    @Override
+    public StreamingDataTable<T> withHorizontalAlignment(@Nonnull HorizontalAlignment horizontalAlignment) {
+        return new StreamingDataTable<>(
+                this.pdfCommons,
+                this.items,
+                this.columns,
+                this.style,
+                this.flushEvery,
+                horizontalAlignment,
+                this.getVerticalAlignment()
+        );
+    }
+
+    @Override
+    public StreamingDataTable<T> withVerticalAlignment(@Nonnull VerticalAlignment verticalAlignment) {
+        return new StreamingDataTable<>(
+                this.pdfCommons,
+                this.items,
+                this.columns,
+                this.style,
+                this.flushEvery,
+                this.getHorizontalAlignment(),
+                verticalAlignment
+        );
+    }
+
+    public static <T> StreamingDataTableBuilder<T> builder() {
+        return new StreamingDataTableBuilder<>();
+    }
+
+    /**
+     * A builder for {@link StreamingDataTable}.
+     * The columns are either provided directly with {@link #columns(List)} or resolved from
+     * {@link #objectClass(Class)} and {@link #customExtractor(Map)}, in the same way as {@link DataTable}.
+     *
+     * @param <T> The type of the objects in the sequence.
+     */
+    public static final class StreamingDataTableBuilder<T> {
+        private PdfCommons pdfCommons;
+        private Iterator<T> items;
+        private List<DataTableColumn<T>> columns;
+        private Class<T> objectClass;
+        private Map<String, Function<T, String>> customExtractor = Map.of();
+        private DataTableStyle style;
+        private int flushEvery = DEFAULT_FLUSH_EVERY;
+        private HorizontalAlignment horizontalAlignment = HorizontalAlignment.LEFT;
+        private VerticalAlignment verticalAlignment = VerticalAlignment.TOP;
+
+        private StreamingDataTableBuilder() {
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> pdfCommons(@Nonnull final PdfCommons pdfCommons) {
+            if (pdfCommons == null) {
+                throw new NullPointerException("pdfCommons is marked non-null but is null");
+            }
+            this.pdfCommons = pdfCommons;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> items(@Nonnull final Iterator<T> items) {
+            if (items == null) {
+                throw new NullPointerException("items is marked non-null but is null");
+            }
+            this.items = items;
+            return this;
+        }
+
+        /**
+         * The stream is consumed lazily while the table is written, closing it is up to the caller.
+         *
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> items(@Nonnull final Stream<T> items) {
+            return this.items(items.iterator());
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> items(@Nonnull final Spliterator<T> items) {
+            return this.items(Spliterators.iterator(items));
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> columns(@Nonnull final List<DataTableColumn<T>> columns) {
+            if (columns == null) {
+                throw new NullPointerException("columns is marked non-null but is null");
+            }
+            this.columns = columns;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> objectClass(@Nonnull final Class<T> objectClass) {
+            if (objectClass == null) {
+                throw new NullPointerException("objectClass is marked non-null but is null");
+            }
+            this.objectClass = objectClass;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> customExtractor(@Nonnull final Map<String, Function<T, String>> customExtractor) {
+            if (customExtractor == null) {
+                throw new NullPointerException("customExtractor is marked non-null but is null");
+            }
+            this.customExtractor = customExtractor;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> style(@Nonnull final DataTableStyle style) {
+            if (style == null) {
+                throw new NullPointerException("style is marked non-null but is null");
+            }
+            this.style = style;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> flushEvery(final int flushEvery) {
+            this.flushEvery = flushEvery;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> horizontalAlignment(@Nonnull final HorizontalAlignment horizontalAlignment) {
+            if (horizontalAlignment == null) {
+                throw new NullPointerException("horizontalAlignment is marked non-null but is null");
+            }
+            this.horizontalAlignment = horizontalAlignment;
+            return this;
+        }
+
+        /**
+         * @return {@code this}.
+         */
+        public StreamingDataTableBuilder<T> verticalAlignment(@Nonnull final VerticalAlignment verticalAlignment) {
+            if (verticalAlignment == null) {
+                throw new NullPointerException("verticalAlignment is marked non-null but is null");
+            }
+            this.verticalAlignment = verticalAlignment;
+            return this;
+        }
+
+        public StreamingDataTable<T> build() {
+            if (this.pdfCommons == null) {
+                throw new NullPointerException("pdfCommons is marked non-null but is null");
+            }
+            if (this.items == null) {
+                throw new NullPointerException("items is marked non-null but is null");
+            }
+            var resolvedColumns = this.columns;
+            if (resolvedColumns == null) {
+                if (this.objectClass == null) {
+                    throw new NullPointerException("columns or objectClass must be provided");
+                }
+                resolvedColumns = DataTableColumnPlan.of(this.objectClass).resolve(this.customExtractor);
+            }
+            var resolvedStyle = this.style != null ? this.style : this.pdfCommons.getDefaultDataTableStyle();
+            return new StreamingDataTable<>(
+                    this.pdfCommons,
+                    this.items,
+                    resolvedColumns,
+                    resolvedStyle,
+                    this.flushEvery,
+                    this.horizontalAlignment,
+                    this.verticalAlignment
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "StreamingDataTable.StreamingDataTableBuilder(pdfCommons=" + this.pdfCommons + ", columns=" + this.columns + ", objectClass=" + this.objectClass + ", customExtractor=" + this.customExtractor + ", style=" + this.style + ", flushEvery=" + this.flushEvery + ")";
+        }
+    }
+}
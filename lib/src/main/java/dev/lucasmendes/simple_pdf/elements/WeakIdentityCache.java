@@ -0,0 +1,81 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * This class is a concurrent cache keyed by the identity of objects that are not kept alive by the cache.
+ * The entry of a key is removed after the key is collected, so the values must not reference their keys.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class WeakIdentityCache<K, V> {
+    private final ConcurrentMap<IdentityKey, V> values = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    @Nullable
+    V get(@Nonnull K key) {
+        this.expungeStaleEntries();
+        return this.values.get(new IdentityKey(key, null));
+    }
+
+    void put(@Nonnull K key, @Nonnull V value) {
+        this.expungeStaleEntries();
+        this.values.put(new IdentityKey(key, this.queue), value);
+    }
+
+    V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> function) {
+        var value = this.get(key);
+        if (value != null) {
+            return value;
+        }
+        return this.values.computeIfAbsent(new IdentityKey(key, this.queue), identity -> function.apply(key));
+    }
+
+    int size() {
+        this.expungeStaleEntries();
+        return this.values.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object stale;
+        while ((stale = this.queue.poll()) != null) {
+            this.values.remove(stale);
+        }
+    }
+
+    /**
+     * A weak key compared by the identity of its referent.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            var referent = this.get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.lucasmendes.simple_pdf.enums;
+
+/**
+ * The order in which a bounded cache removes its entries when it is full.
+ */
+public enum EvictionPolicy {
+    /**
+     * Removes the entry that was read or added the longest time ago.
+     */
+    LEAST_RECENTLY_USED,
+    /**
+     * Removes the entry that was added the longest time ago, even if it is still read.
+     */
+    FIRST_IN_FIRST_OUT
+}
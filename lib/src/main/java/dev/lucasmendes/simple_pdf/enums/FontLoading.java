@@ -0,0 +1,17 @@
+package dev.lucasmendes.simple_pdf.enums;
+
+/**
+ * The way the tables of a font file are read by OpenPDF.
+ */
+public enum FontLoading {
+    /**
+     * The file is memory-mapped, so the glyph tables are paged in on demand when the font is embedded, and the
+     * pages are shared through the page cache of the operating system by every document and process.
+     * The file must not change while the font is used.
+     */
+    MEMORY_MAPPED,
+    /**
+     * The whole file is read to the heap when the font is loaded.
+     */
+    HEAP
+}
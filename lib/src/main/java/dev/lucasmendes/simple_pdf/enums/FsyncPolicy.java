@@ -0,0 +1,19 @@
+package dev.lucasmendes.simple_pdf.enums;
+
+/**
+ * The moments the written bytes of a document are forced to the storage device.
+ */
+public enum FsyncPolicy {
+    /**
+     * The bytes are left to the operating system.
+     */
+    NONE,
+    /**
+     * The bytes and the metadata of the file are forced when the document is closed.
+     */
+    ON_CLOSE,
+    /**
+     * The bytes are forced every time the stream is flushed, and with the metadata when the document is closed.
+     */
+    ON_FLUSH
+}
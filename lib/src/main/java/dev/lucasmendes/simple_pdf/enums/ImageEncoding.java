@@ -0,0 +1,16 @@
+package dev.lucasmendes.simple_pdf.enums;
+
+/**
+ * The encoding of the pixels of a resampled image in the document.
+ */
+public enum ImageEncoding {
+    /**
+     * The pixels are compressed with losses, with a configurable quality. Images with transparency are written with
+     * {@link #FLATE}, since the encoding has no alpha channel.
+     */
+    JPEG,
+    /**
+     * The pixels are compressed without losses.
+     */
+    FLATE
+}
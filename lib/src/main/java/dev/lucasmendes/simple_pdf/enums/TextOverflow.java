@@ -0,0 +1,20 @@
+package dev.lucasmendes.simple_pdf.enums;
+
+/**
+ * The way the text of a table cell that does not fit in the width of its column is written.
+ */
+public enum TextOverflow {
+    /**
+     * The text is wrapped to the next lines.
+     */
+    WRAP,
+    /**
+     * The text is kept in one line, shortened and ended with an ellipsis.
+     */
+    ELLIPSIS,
+    /**
+     * The text is kept in one line, written with a smaller font, down to a minimum size after which it is shortened
+     * like {@link #ELLIPSIS}.
+     */
+    SHRINK_TO_FIT
+}
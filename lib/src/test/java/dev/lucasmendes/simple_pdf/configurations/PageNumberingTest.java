@@ -0,0 +1,118 @@
+package dev.lucasmendes.simple_pdf.configurations;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link PageNumbering}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for PageNumbering")
+class PageNumberingTest {
+
+    private static byte[] write(PageNumbering numbering, int pages) {
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                    .setPageNumbering(numbering)
+                    .registerEvents()
+                    .open();
+            var editor = wrapper.toEditor();
+            for (int i = 1; i <= pages; i++) {
+                if (i > 1) {
+                    editor.newPage();
+                }
+                editor.add(new SimpleParagraph("Body " + i));
+            }
+        }
+        return output.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Test the default configuration")
+    void testDefault() {
+        var numbering = new PageNumbering();
+
+        assertEquals("Page {page} of {total}", numbering.getFormat());
+        assertEquals(HorizontalAlignment.CENTER, numbering.getHorizontalAlignment());
+        assertEquals(VerticalAlignment.BOTTOM, numbering.getVerticalAlignment());
+        assertEquals("{page}/{total}", PageNumbering.of("{page}/{total}").getFormat());
+    }
+
+    private static int countForms(PdfReader reader) {
+        var forms = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream() && PdfName.FORM.equals(((PdfStream) object).get(PdfName.SUBTYPE))) {
+                forms++;
+            }
+        }
+        return forms;
+    }
+
+    @Test
+    @DisplayName("Test that every page has its number and the total, written in one form")
+    void testPageOfTotal() throws Exception {
+        var reader = new PdfReader(write(new PageNumbering().withHorizontalAlignment(HorizontalAlignment.LEFT), 4));
+
+        assertEquals(4, reader.getNumberOfPages());
+        assertEquals(1, countForms(reader), "The total should be written once");
+        var extractor = new PdfTextExtractor(reader);
+        for (int page = 1; page <= 4; page++) {
+            var text = extractor.getTextFromPage(page).replaceAll("\\s+", " ");
+            // the extractor drops the space before the text of the form
+            assertTrue(text.matches(".*Page " + page + " of ?4.*"), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the centered numbers are aligned with the width of the total")
+    void testCenteredPageOfTotal() throws Exception {
+        var reader = new PdfReader(write(new PageNumbering(), 3));
+
+        assertEquals(3, countForms(reader), "Each page should have the form of its text");
+        var extractor = new PdfTextExtractor(reader);
+        for (int page = 1; page <= 3; page++) {
+            var text = extractor.getTextFromPage(page).replaceAll("\\s+", " ");
+            assertTrue(text.contains("Page " + page + " of 3"), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test the text after the total and a format with the total more than once")
+    void testTextAfterTotal() throws Exception {
+        var left = new PdfReader(write(PageNumbering.of("Page {page} of {total} pages").withHorizontalAlignment(HorizontalAlignment.LEFT), 2));
+        var right = new PdfReader(write(PageNumbering.of("{page}/{total} ({total} pages, page {page})").withHorizontalAlignment(HorizontalAlignment.RIGHT), 2));
+
+        assertEquals(1, countForms(left));
+        assertTrue(new PdfTextExtractor(left).getTextFromPage(2).replaceAll("\\s+", " ").matches(".*Page 2 of ?2 pages.*"));
+        assertTrue(new PdfTextExtractor(right).getTextFromPage(2).contains("2/2 (2 pages, page 2)"));
+    }
+
+    @Test
+    @DisplayName("Test a format without the total at the top of the page")
+    void testWithoutTotal() throws Exception {
+        var numbering = PageNumbering.of("- {page} -")
+                .withHorizontalAlignment(HorizontalAlignment.RIGHT)
+                .withVerticalAlignment(VerticalAlignment.TOP);
+        var reader = new PdfReader(write(numbering, 2));
+
+        var extractor = new PdfTextExtractor(reader);
+        assertTrue(extractor.getTextFromPage(2).contains("- 2 -"));
+    }
+}
@@ -1,5 +1,8 @@
 package dev.lucasmendes.simple_pdf.configurations;
 
+import com.lowagie.text.FontFactory;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +29,47 @@ public class PdfCommonsTest {
         assertNotNull(pdfCommons.getRegisteredFonts());
         assertTrue(pdfCommons.getRegisteredFonts().isEmpty());
     }
+
+    @Test
+    @DisplayName("Test Default Data Table Style Is Shared Until The Default Font Changes")
+    public void testDefaultDataTableStyle() {
+        PdfCommons pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+        DataTableStyle style = pdfCommons.getDefaultDataTableStyle();
+        assertSame(style, pdfCommons.getDefaultDataTableStyle(), "The style must be shared.");
+
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.COURIER)));
+        assertNotSame(style, pdfCommons.getDefaultDataTableStyle(), "The style must follow the default font.");
+    }
+
+    @Test
+    @DisplayName("Test Default Data Table Style Shares Cell Styles And Fonts")
+    public void testDefaultDataTableStyleFlyweights() {
+        DataTableStyle style = DataTableStyle.defaults(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+        var firstEven = style.getBodyRowCellStyle().apply(new DataTableStyle.CellInfo("a", 0));
+        var secondEven = style.getBodyRowCellStyle().apply(new DataTableStyle.CellInfo("b", 2));
+        var odd = style.getBodyRowCellStyle().apply(new DataTableStyle.CellInfo("c", 1));
+        assertSame(firstEven.getStyle(), secondEven.getStyle(), "Even rows must share the cell style.");
+        assertNotSame(firstEven.getStyle(), odd.getStyle(), "Odd rows must have their own cell style.");
+
+        var firstHeader = (SimpleParagraph) style.getHeaderRowCellStyle().apply("A").getContent();
+        var secondHeader = (SimpleParagraph) style.getHeaderRowCellStyle().apply("B").getContent();
+        assertSame(firstHeader.getFont(), secondHeader.getFont(), "Header cells must share the font.");
+    }
+
+    @Test
+    @DisplayName("Test Fallback Chains Follow The Fallback Fonts")
+    public void testFallbackChain() {
+        PdfCommons pdfCommons = new PdfCommons(new PageConfiguration());
+        SimpleFont helvetica = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA));
+        assertNull(pdfCommons.getFallbackChain(helvetica), "There is no chain without fallback fonts.");
+
+        pdfCommons.getFallbackFonts().add(new SimpleFont(FontFactory.getFont(FontFactory.COURIER)));
+        var chain = pdfCommons.getFallbackChain(helvetica);
+        assertSame(helvetica, chain.getPrimary());
+        assertEquals(chain.getFonts(), pdfCommons.getFallbackChain(helvetica).getFonts(), "The chain must be the same.");
+
+        pdfCommons.getFallbackFonts().add(new SimpleFont(FontFactory.getFont(FontFactory.TIMES_ROMAN)));
+        assertEquals(3, pdfCommons.getFallbackChain(helvetica).getFonts().size(), "The chain must follow the fallback fonts.");
+    }
 }
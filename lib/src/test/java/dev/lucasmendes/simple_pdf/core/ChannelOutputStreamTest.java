@@ -0,0 +1,114 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfReader;
+import dev.lucasmendes.simple_pdf.configurations.OutputConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import dev.lucasmendes.simple_pdf.enums.FsyncPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This is a test class for {@link ChannelOutputStream}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ChannelOutputStream")
+class ChannelOutputStreamTest {
+
+    @Test
+    @DisplayName("Test that small, large and single byte writes reach the channel in order")
+    void testWrites() throws IOException {
+        var expected = new ByteArrayOutputStream();
+        var target = new ByteArrayOutputStream();
+        try (var stream = new ChannelOutputStream(Channels.newChannel(target), new OutputConfiguration().withBufferSize(16))) {
+            for (int i = 0; i < 100; i++) {
+                var bytes = new byte[i % 3 == 0 ? 40 : 5];
+                for (int j = 0; j < bytes.length; j++) {
+                    bytes[j] = (byte) (i + j);
+                }
+                stream.write(bytes);
+                stream.write(i);
+                expected.write(bytes);
+                expected.write(i);
+            }
+            stream.flush();
+            assertEquals(expected.size(), target.size(), "The flush should write the buffer");
+        }
+
+        assertArrayEquals(expected.toByteArray(), target.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test that a preallocated file is truncated to the written bytes")
+    void testPreallocation(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("preallocated.bin");
+        var configuration = new OutputConfiguration()
+                .withPreallocateBytes(1024 * 1024)
+                .withFsyncPolicy(FsyncPolicy.ON_FLUSH);
+        var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        var stream = new ChannelOutputStream(channel, configuration);
+        assertEquals(1024 * 1024, Files.size(file));
+
+        stream.write(new byte[]{1, 2, 3});
+        stream.flush();
+        stream.close();
+        stream.close();
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(file));
+        assertThrows(IOException.class, () -> stream.write(4));
+    }
+
+    @Test
+    @DisplayName("Test that a document is written to a path")
+    void testFromPath(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("document.pdf");
+        Files.write(file, new byte[4 * 1024 * 1024]);
+
+        try (var wrapper = PdfWrapper.fromPath(file)) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true).open();
+            var editor = wrapper.toEditor();
+            for (int i = 0; i < 3; i++) {
+                editor.newPage().add(new SimpleParagraph("Page " + i));
+            }
+        }
+
+        var reader = new PdfReader(Files.readAllBytes(file));
+        assertEquals(3, reader.getNumberOfPages());
+        assertEquals(
+                "%PDF",
+                new String(Files.readAllBytes(file), 0, 4),
+                "The previous content of the file should be replaced"
+        );
+    }
+
+    @Test
+    @DisplayName("Test that the preallocation is truncated when the document is closed")
+    void testDocumentPreallocation(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("preallocated.pdf");
+        var output = new OutputConfiguration().withPreallocateBytes(8 * 1024 * 1024).withFsyncPolicy(FsyncPolicy.ON_CLOSE);
+
+        try (var wrapper = PdfWrapper.fromPath(file, new PageConfiguration(), output)) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true).open();
+            wrapper.toEditor().add(new SimpleParagraph("Preallocated"));
+        }
+
+        var bytes = Files.readAllBytes(file);
+        assertEquals(1, new PdfReader(bytes).getNumberOfPages());
+        assertEquals("%%EOF", new String(bytes, bytes.length - 6, 5), "The file should end with the document");
+    }
+}
@@ -0,0 +1,214 @@
+package dev.lucasmendes.simple_pdf.core;
+
+import com.lowagie.text.Chapter;
+import com.lowagie.text.Document;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PageNumbering;
+import dev.lucasmendes.simple_pdf.configurations.Watermark;
+import dev.lucasmendes.simple_pdf.elements.SimpleFont;
+import dev.lucasmendes.simple_pdf.elements.SimpleParagraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link PageEventPipeline}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for PageEventPipeline")
+class PageEventPipelineTest {
+
+    /**
+     * A stage that records the events it receives.
+     */
+    private static class Recorder extends PdfPageEventHelper {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onOpenDocument(PdfWriter writer, Document document) {
+            this.events.add("open");
+        }
+
+        @Override
+        public void onStartPage(PdfWriter writer, Document document) {
+            this.events.add("start " + writer.getPageNumber());
+        }
+
+        @Override
+        public void onEndPage(PdfWriter writer, Document document) {
+            this.events.add("end " + writer.getPageNumber());
+        }
+
+        @Override
+        public void onChapter(PdfWriter writer, Document document, float paragraphPosition, Paragraph title) {
+            this.events.add("chapter " + title.getContent());
+        }
+
+        @Override
+        public void onCloseDocument(PdfWriter writer, Document document) {
+            this.events.add("close");
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the stages receive the events in order and are counted")
+    void testStages() {
+        var recorder = new Recorder();
+        var output = new ByteArrayOutputStream();
+        PdfWrapper wrapper;
+        try (var pdfWrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper = pdfWrapper;
+            pdfWrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                    .addPageEvent("recorder", recorder)
+                    .setWatermark(Watermark.of("DRAFT"))
+                    .setPageNumbering(new PageNumbering())
+                    .registerEvents()
+                    .registerEvents()
+                    .open();
+            pdfWrapper.getDocument().add(new Chapter(new Paragraph("Introduction"), 1));
+            pdfWrapper.toEditor().newPage().add(new SimpleParagraph("Second page"));
+        }
+
+        // the writer starts a page that is not written when the document is closed
+        assertEquals(
+                List.of("open", "start 1", "chapter 1. Introduction", "end 1", "start 2", "end 2", "start 3", "close"),
+                recorder.events,
+                "The events should be forwarded once, even if the events are registered twice"
+        );
+        var pipeline = wrapper.getPageEvents();
+        assertEquals(
+                List.of(PageEventPipeline.WATERMARK, PageEventPipeline.PAGE_NUMBERING, "recorder"),
+                pipeline.getStageNames(),
+                "The decorations should come before the added stages"
+        );
+        var calls = pipeline.getTimings().get(0).getCalls();
+        assertTrue(calls >= recorder.events.size(), "Every event should be counted: " + calls);
+        for (PageEventPipeline.StageTiming timing : pipeline.getTimings()) {
+            assertEquals(calls, timing.getCalls(), timing.getName());
+            assertTrue(timing.getNanos() > 0, timing.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the watermark is written once and drawn on every page")
+    void testWatermark() throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.setWatermark(Watermark.of("CONFIDENTIAL")).registerEvents().open();
+            var editor = wrapper.toEditor();
+            editor.add(new SimpleParagraph("First page", new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA))));
+            editor.newPage().add(new SimpleParagraph("Second page", new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA))));
+        }
+
+        var reader = new PdfReader(output.toByteArray());
+        var forms = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream() && PdfName.FORM.equals(((PdfStream) object).get(PdfName.SUBTYPE))) {
+                forms++;
+            }
+        }
+        assertEquals(1, forms, "The text of the watermark should be written once");
+        var extractor = new PdfTextExtractor(reader);
+        for (int page = 1; page <= 2; page++) {
+            assertTrue(extractor.getTextFromPage(page).contains("CONFIDENTIAL"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test that changing a decoration while the document is written keeps the other stages")
+    void testReconfigureWhileWriting() throws Exception {
+        var output = new ByteArrayOutputStream();
+        PageEventPipeline pipeline;
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true)
+                    .setPageNumbering(new PageNumbering())
+                    .registerEvents()
+                    .open();
+            var editor = wrapper.toEditor();
+            editor.add(new SimpleParagraph("First page"));
+            editor.newPage().add(new SimpleParagraph("Second page"));
+            var calls = wrapper.getPageEvents().getTimings().get(0).getCalls();
+
+            wrapper.setWatermark(Watermark.of("DRAFT"));
+            var timings = wrapper.getPageEvents().getTimings();
+            assertEquals(PageEventPipeline.PAGE_NUMBERING, timings.get(1).getName());
+            assertEquals(calls, timings.get(1).getCalls(), "The counters should be kept");
+            editor.newPage().add(new SimpleParagraph("Third page"));
+            wrapper.setPageNumbering(PageNumbering.of("{page}/{total}"));
+            editor.newPage().add(new SimpleParagraph("Fourth page"));
+            pipeline = wrapper.getPageEvents();
+        }
+
+        assertEquals(List.of(PageEventPipeline.WATERMARK, PageEventPipeline.PAGE_NUMBERING), pipeline.getStageNames());
+        var extractor = new PdfTextExtractor(new PdfReader(output.toByteArray()));
+        for (int page = 1; page <= 2; page++) {
+            var text = extractor.getTextFromPage(page).replaceAll("\\s+", " ");
+            // the extractor drops the space before the text of the form
+            assertTrue(text.matches(".*Page " + page + " of ?4.*"), "The replaced stamp should fill its total: " + text);
+        }
+        // the numbers of a page are written when it ends, after the third page was changed
+        for (int page = 3; page <= 4; page++) {
+            var text = extractor.getTextFromPage(page);
+            assertTrue(text.contains("DRAFT") && text.contains(page + "/4"), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a stage that changes the pipeline while an event is dispatched does not change that event")
+    void testChangeWhileDispatching() {
+        var pipeline = new PageEventPipeline();
+        var added = new Recorder();
+        var second = new Recorder();
+        var first = new PdfPageEventHelper() {
+            @Override
+            public void onOpenDocument(PdfWriter writer, Document document) {
+                var stages = new LinkedHashMap<String, PdfPageEventHelper>();
+                stages.put("added", added);
+                stages.put("first", this);
+                stages.put("second", second);
+                pipeline.setStages(stages);
+            }
+
+            @Override
+            public void onCloseDocument(PdfWriter writer, Document document) {
+                pipeline.setStages(Map.of("second", second));
+            }
+        };
+        var stages = new LinkedHashMap<String, PdfPageEventHelper>();
+        stages.put("first", first);
+        stages.put("second", second);
+        pipeline.setStages(stages);
+
+        pipeline.onOpenDocument(null, null);
+
+        assertEquals(List.of(), added.events, "The added stage should receive the next events only");
+        assertEquals(List.of("open"), second.events, "The event should reach the stages it started with");
+        var timings = pipeline.getTimings();
+        assertEquals(List.of("added", "first", "second"), pipeline.getStageNames());
+        assertEquals(List.of(0L, 1L, 1L), List.of(timings.get(0).getCalls(), timings.get(1).getCalls(), timings.get(2).getCalls()));
+
+        pipeline.onCloseDocument(null, null);
+
+        assertEquals(List.of("close"), added.events);
+        assertEquals(List.of("open", "close"), second.events);
+        assertEquals(List.of("second"), pipeline.getStageNames());
+        assertEquals(2, pipeline.getTimings().get(0).getCalls(), "The counters of a kept stage should be shared");
+    }
+}
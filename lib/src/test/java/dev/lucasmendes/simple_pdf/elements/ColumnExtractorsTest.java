@@ -0,0 +1,91 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This is a test class for {@link ColumnExtractors}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ColumnExtractors")
+class ColumnExtractorsTest {
+
+    @Test
+    @DisplayName("Test the extractors of numbers without pattern")
+    void testNumbersWithoutPattern() {
+        assertEquals("42", ColumnExtractors.<Integer>ofInt(value -> value).apply(42));
+        assertEquals("-9000000000", ColumnExtractors.<Long>ofLong(value -> value).apply(-9_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Test the extractors of numbers with pattern")
+    void testNumbersWithPattern() {
+        assertEquals("1,234", ColumnExtractors.<Integer>ofInt(value -> value, "#,##0", Locale.US).apply(1234));
+        assertEquals("0042", ColumnExtractors.<Long>ofLong(value -> value, "0000", Locale.US).apply(42L));
+        assertEquals("1.234,50", ColumnExtractors.<Double>ofDouble(value -> value, "#,##0.00", Locale.GERMANY).apply(1234.5));
+    }
+
+    @Test
+    @DisplayName("Test the extractors of dates")
+    void testDates() {
+        Function<LocalDate, String> extractor = ColumnExtractors.ofTemporal(value -> value, "dd/MM/yyyy", Locale.US);
+        assertEquals("05/03/2024", extractor.apply(LocalDate.of(2024, 3, 5)));
+        assertEquals(ColumnExtractors.NULL_VALUE, extractor.apply(null));
+    }
+
+    @Test
+    @DisplayName("Test that invalid patterns are rejected when the column is created")
+    void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnExtractors.<Double>ofDouble(value -> value, "#.#.#", Locale.US));
+    }
+
+    @Test
+    @DisplayName("Test that the columns keep formatting after their pattern leaves the cache")
+    void testEvictedPattern() {
+        Function<Integer, String> extractor = ColumnExtractors.ofInt(value -> value, "#,##0", Locale.US);
+        for (int i = 0; i < 100; i++) {
+            ColumnExtractors.<Integer>ofInt(value -> value, "0".repeat(i + 1), Locale.US);
+        }
+
+        assertEquals("1,234", extractor.apply(1234));
+        assertEquals("1,234", ColumnExtractors.<Integer>ofInt(value -> value, "#,##0", Locale.US).apply(1234));
+    }
+
+    @Test
+    @DisplayName("Test that the number formatters can be used concurrently")
+    void testConcurrentFormatting() throws Exception {
+        Function<Double, String> extractor = ColumnExtractors.ofDouble(value -> value, "#,##0.00", Locale.US);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Boolean>>();
+            for (int thread = 0; thread < 8; thread++) {
+                final var offset = thread * 10_000;
+                tasks.add(() -> {
+                    for (int i = offset; i < offset + 10_000; i++) {
+                        var expected = String.format(Locale.US, "%,.2f", i + 0.25);
+                        if (!expected.equals(extractor.apply(i + 0.25))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertEquals(true, result.get(), "Every value should be formatted correctly");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
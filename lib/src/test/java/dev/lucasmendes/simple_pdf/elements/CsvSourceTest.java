@@ -0,0 +1,140 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.core.PdfEditor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link CsvSource}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for CsvSource")
+class CsvSourceTest {
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(this.directory.resolve("data.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private static List<List<String>> rows(CsvSource source) {
+        var rows = new ArrayList<List<String>>();
+        for (CsvSource.Row row : source) {
+            rows.add(IntStream.range(0, row.size()).mapToObj(row::get).collect(Collectors.toList()));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Test that the headers are read from the first line")
+    void testHeaders() throws IOException {
+        var source = CsvSource.of(this.write("\uFEFFid,name\n1,Ana\n"));
+
+        assertEquals(List.of("id", "name"), source.getHeaders(), "The byte order mark should be skipped");
+        assertEquals(List.of(List.of("1", "Ana")), rows(source), "The header line should not be a row");
+    }
+
+    @Test
+    @DisplayName("Test the supplied headers")
+    void testSuppliedHeaders() throws IOException {
+        var source = CsvSource.builder()
+                .path(this.write("1;Ana\r\n2;Pedro"))
+                .delimiter(';')
+                .firstLineIsHeader(false)
+                .headers(List.of("Identification", "Name"))
+                .build();
+
+        assertEquals(List.of("Identification", "Name"), source.getHeaders());
+        assertEquals(List.of(List.of("1", "Ana"), List.of("2", "Pedro")), rows(source));
+    }
+
+    @Test
+    @DisplayName("Test the quoted fields, empty fields and blank lines")
+    void testQuotedFields() throws IOException {
+        var source = CsvSource.of(this.write(
+                "a,b,c\n" +
+                        "\"x, y\",\"say \"\"hi\"\"\",\"multi\nline\"\n" +
+                        "\n" +
+                        ",\"\",\u00e7\u00e3\n"
+        ));
+
+        assertEquals(
+                List.of(
+                        List.of("x, y", "say \"hi\"", "multi\nline"),
+                        List.of("", "", "\u00e7\u00e3")
+                ),
+                rows(source)
+        );
+    }
+
+    @Test
+    @DisplayName("Test that the rows are read across several mapped windows")
+    void testWindows() throws IOException {
+        var content = new StringBuilder("id,text\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(",\"value ").append(i).append(", quoted\"\n");
+        }
+        content.append("1000,").append("long".repeat(50)).append('\n');
+        var source = CsvSource.builder().path(this.write(content.toString())).windowSize(64).build();
+
+        var rows = rows(source);
+
+        assertEquals(1001, rows.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(List.of(String.valueOf(i), "value " + i + ", quoted"), rows.get(i));
+        }
+        assertEquals(List.of("1000", "long".repeat(50)), rows.get(1000), "Rows larger than the window should be read");
+    }
+
+    @Test
+    @DisplayName("Test that every row of the file is written to the document")
+    void testAddCsvTable() throws IOException {
+        var content = new StringBuilder("id,name\n");
+        for (int i = 0; i < 300; i++) {
+            content.append(i).append(",Person ").append(i).append('\n');
+        }
+        var path = this.write(content.toString());
+        var pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+
+        var baos = new ByteArrayOutputStream();
+        try (var document = new Document()) {
+            var writer = PdfWriter.getInstance(document, baos);
+            document.open();
+            new PdfEditor(pdfCommons, document, writer).addCsvTable(path);
+        }
+
+        var reader = new PdfReader(baos.toByteArray());
+        var extractor = new PdfTextExtractor(reader);
+        var text = new StringBuilder();
+        for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+            var pageText = extractor.getTextFromPage(page);
+            assertTrue(pageText.startsWith("id name"), "The header should be repeated on page " + page);
+            text.append(pageText).append('\n');
+        }
+        for (int i = 0; i < 300; i++) {
+            assertTrue(text.indexOf(i + " Person " + i) >= 0, "Row " + i + " should be written");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfPTable;
+import dev.lucasmendes.simple_pdf.annotations.PdfIgnore;
+import dev.lucasmendes.simple_pdf.annotations.PdfName;
+import dev.lucasmendes.simple_pdf.configurations.AutoColumnWidths;
+import dev.lucasmendes.simple_pdf.configurations.DataTableStyle;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import dev.lucasmendes.simple_pdf.enums.VerticalAlignment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link DataTable}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for DataTable")
+class DataTableTest {
+
+    private static PdfCommons createPdfCommons() {
+        var pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+        return pdfCommons;
+    }
+
+    private static List<String> rowTexts(PdfPTable table, int row) {
+        return List.of(table.getRow(row).getCells()).stream()
+                .map(cell -> cell.getPhrase().getContent())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Test the headers of the table")
+    void testHeaders() {
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Person(1, "Ana", null, 10.0)), Person.class);
+
+        var table = dataTable.getElement();
+
+        assertEquals(3, table.getNumberOfColumns(), "Ignored and static fields should not be columns");
+        assertEquals(List.of("Identification", "First name", "Last name"), rowTexts(table, 0));
+    }
+
+    @Test
+    @DisplayName("Test the values of the rows of the table")
+    void testRows() {
+        var items = List.of(new Person(1, "Ana", "Lima", 10.0), new Person(2, "Pedro", null, 20.0));
+        var dataTable = new DataTable<>(createPdfCommons(), items, Person.class);
+
+        var table = dataTable.getElement();
+
+        assertEquals(List.of("1", "Ana", "Lima"), rowTexts(table, 1));
+        assertEquals(List.of("2", "Pedro", "NULL"), rowTexts(table, 2), "Null values should be rendered as NULL");
+    }
+
+    @Test
+    @DisplayName("Test that custom extractors override the field values")
+    void testCustomExtractor() {
+        Map<String, Function<Person, String>> extractors = Map.of("lastName", person -> "custom " + person.firstName);
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Person(1, "Ana", "Lima", 10.0)), extractors, Person.class);
+
+        var table = dataTable.getElement();
+
+        assertEquals(List.of("1", "Ana", "custom Ana"), rowTexts(table, 1));
+    }
+
+    @Test
+    @DisplayName("Test that the column plan is computed once per class")
+    void testColumnPlanIsShared() {
+        assertSame(DataTableColumnPlan.of(Person.class), DataTableColumnPlan.of(Person.class));
+    }
+
+    @Test
+    @DisplayName("Test that the fields are read without calling their getters")
+    void testFieldsAreReadDirectly() {
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Product("ab-1", 3)), Product.class);
+
+        assertEquals(List.of("ab-1", "3"), rowTexts(dataTable.getElement(), 1));
+    }
+
+    @Test
+    @DisplayName("Test that the parallel mode keeps the order of the rows")
+    void testParallel() {
+        var items = IntStream.range(0, 500)
+                .mapToObj(i -> new Person(i, "Name " + i, null, 1.0))
+                .collect(Collectors.toList());
+        var dataTable = DataTable.<Person>builder()
+                .pdfCommons(createPdfCommons())
+                .style(DataTableStyle.defaults(createPdfCommons().getDefaultFont()))
+                .items(items)
+                .objectClass(Person.class)
+                .parallel()
+                .parallelChunkSize(16)
+                .build();
+
+        var table = dataTable.getElement();
+
+        assertEquals(501, table.size(), "The table should have the header and every item");
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(List.of(String.valueOf(i), "Name " + i, "NULL"), rowTexts(table, i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the table is generated once, even when requested concurrently")
+    void testGetElementIsMemoized() throws Exception {
+        var generations = new AtomicInteger();
+        Map<String, Function<Person, String>> extractors = Map.of("id", person -> {
+            generations.incrementAndGet();
+            return String.valueOf(person.id);
+        });
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Person(1, "Ana", "Lima", 10.0)), extractors, Person.class);
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = Collections.nCopies(32, (Callable<PdfPTable>) dataTable::getElement);
+            var first = dataTable.getElement();
+            for (Future<PdfPTable> result : executor.invokeAll(tasks)) {
+                assertSame(first, result.get(), "Every call should return the same table");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, generations.get(), "The rows should be generated once");
+    }
+
+    @Test
+    @DisplayName("Test that invalidate and rebuild generate the table again")
+    void testInvalidate() {
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Person(1, "Ana", "Lima", 10.0)), Person.class);
+
+        var first = dataTable.getElement();
+        dataTable.invalidate();
+        var second = dataTable.getElement();
+        var third = dataTable.rebuild();
+
+        assertNotSame(first, second, "The table should be generated again after invalidate");
+        assertNotSame(second, third, "The table should be generated again by rebuild");
+        assertSame(third, dataTable.getElement());
+    }
+
+    @Test
+    @DisplayName("Test that the alignment copies share the generated table")
+    void testAlignmentCopiesShareTable() {
+        var dataTable = new DataTable<>(createPdfCommons(), List.of(new Person(1, "Ana", "Lima", 10.0)), Person.class);
+
+        var table = dataTable.getElement();
+
+        assertSame(table, dataTable.withHorizontalAlignment(HorizontalAlignment.CENTER).getElement());
+        assertSame(table, dataTable.withVerticalAlignment(VerticalAlignment.BOTTOM).getElement());
+    }
+
+    @Test
+    @DisplayName("Test that the typed columns override the field values")
+    void testTypedColumns() {
+        var dataTable = DataTable.<Person>builder()
+                .pdfCommons(createPdfCommons())
+                .style(DataTableStyle.defaults(createPdfCommons().getDefaultFont()))
+                .items(List.of(new Person(7, "Ana", "Lima", 10.0)))
+                .objectClass(Person.class)
+                .intColumn("id", person -> person.id, "000")
+                .column("lastName", person -> person.lastName.toUpperCase())
+                .build();
+
+        assertEquals(List.of("007", "Ana", "LIMA"), rowTexts(dataTable.getElement(), 1));
+    }
+
+    @Test
+    @DisplayName("Test that a typed column of an unknown field is rejected")
+    void testUnknownTypedColumn() {
+        var builder = DataTable.<Person>builder()
+                .pdfCommons(createPdfCommons())
+                .style(DataTableStyle.defaults(createPdfCommons().getDefaultFont()))
+                .items(List.of(new Person(7, "Ana", "Lima", 10.0)))
+                .objectClass(Person.class)
+                .intColumn("identifier", person -> person.id);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    @DisplayName("Test that the widths of the columns follow their content")
+    void testAutoColumnWidths() {
+        var items = IntStream.range(0, 1000)
+                .mapToObj(i -> new Person(i, "Name " + i, "A much longer last name than the others " + i, 1.0))
+                .collect(Collectors.toList());
+        var style = DataTableStyle.defaults(createPdfCommons().getDefaultFont());
+        var dataTable = DataTable.<Person>builder()
+                .pdfCommons(createPdfCommons())
+                .style(style)
+                .items(items)
+                .objectClass(Person.class)
+                .autoColumnWidths(new AutoColumnWidths(50, 20f, 150f))
+                .build();
+
+        var widths = dataTable.getElement().getAbsoluteWidths();
+        var columns = dataTable.resolveColumns();
+        var measured = dataTable.measureColumnWidths(columns, new AutoColumnWidths(50, 20f, 150f));
+
+        assertEquals(3, widths.length);
+        assertEquals(150f, measured[2], "The widest column should be clamped by the maximum width");
+        assertTrue(measured[1] < measured[2]);
+        var header = style.getHeaderRowCellStyle().apply("Identification").measure(null);
+        assertTrue(measured[0] >= header, "The header should be measured");
+        for (float width : widths) {
+            assertTrue(width >= 20f && width <= 150.01f, "The widths in the page should be between the minimum and the maximum");
+        }
+        assertTrue(widths[2] >= widths[1] && widths[1] > widths[0] * 0.5f);
+        assertEquals(1001, dataTable.getElement().size());
+    }
+
+    @Test
+    @DisplayName("Test that every column keeps the minimum width next to a long column")
+    void testAutoColumnWidthsMinimum() {
+        var description = "A description much longer than the width of the page, that has to wrap in its column. ".repeat(3);
+        var dataTable = DataTable.<Person>builder()
+                .pdfCommons(createPdfCommons())
+                .style(DataTableStyle.defaults(createPdfCommons().getDefaultFont()))
+                .items(List.of(new Person(1, "A", description, 1.0)))
+                .objectClass(Person.class)
+                .autoColumnWidths(new AutoColumnWidths().withSampleSize(0))
+                .build();
+
+        var widths = dataTable.getElement().getAbsoluteWidths();
+        var tableWidth = new PageConfiguration().getUtilizableWidth();
+
+        assertTrue(widths[1] >= AutoColumnWidths.DEFAULT_MINIMUM_WIDTH, "The short columns should keep the minimum width");
+        assertTrue(widths[0] >= AutoColumnWidths.DEFAULT_MINIMUM_WIDTH);
+        assertEquals(tableWidth, widths[0] + widths[1] + widths[2], 0.1f, "The columns should fill the table");
+    }
+
+    @Test
+    @DisplayName("Test the widths fitted to the width of the table")
+    void testResolveColumnWidths() {
+        var configuration = new AutoColumnWidths(0, 30f, 200f);
+
+        var shrunk = DataTable.resolveColumnWidths(new float[]{30f, 30f, 600f}, configuration, 500f);
+        var grown = DataTable.resolveColumnWidths(new float[]{30f, 60f, 200f}, configuration, 500f);
+        var capped = DataTable.resolveColumnWidths(new float[]{30f, 60f, 90f}, configuration, 1000f);
+
+        assertArrayEquals(new float[]{30f, 30f, 440f}, shrunk, 0.01f);
+        assertEquals(200f, grown[2], 0.01f, "The maximum width should not be exceeded");
+        assertEquals(500f, grown[0] + grown[1] + grown[2], 0.01f);
+        assertEquals(2 * grown[0], grown[1], 0.01f, "The rest should be shared in proportion to the widths");
+        assertArrayEquals(new float[]{200f, 200f, 200f}, capped, 0.01f);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Person {
+        private static final String CONSTANT = "constant";
+
+        @PdfName("Identification")
+        private final int id;
+        private final String firstName;
+        private final String lastName;
+        @PdfIgnore
+        private final Double salary;
+
+        private Person(int id, String firstName, String lastName, Double salary) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.salary = salary;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Product {
+        private final String code;
+        private final int size;
+
+        private Product(String code, int size) {
+            this.code = code;
+            this.size = size;
+        }
+
+        public String getCode() {
+            return this.code.toUpperCase();
+        }
+
+        public int size() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.BaseFont;
+import dev.lucasmendes.simple_pdf.enums.EvictionPolicy;
+import dev.lucasmendes.simple_pdf.enums.FontLoading;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This is a test class for {@link FontCache}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for FontCache")
+class FontCacheTest {
+
+    private static Path font(String name) throws Exception {
+        return Paths.get(ClassLoader.getSystemResource("fonts/" + name + ".ttf").toURI());
+    }
+
+    @Test
+    @DisplayName("Test that a font file is parsed once and the counters")
+    void testHitsAndMisses() throws Exception {
+        var cache = new FontCache(4, EvictionPolicy.LEAST_RECENTLY_USED);
+        var regular = font("Roboto-Regular");
+        var relative = Paths.get("").toAbsolutePath().relativize(regular);
+
+        var first = cache.get(regular, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        var second = cache.get(relative, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        var notEmbedded = cache.get(regular, BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
+
+        assertSame(first, second, "The same file should give the same font, for any form of the path");
+        assertNotSame(first, notEmbedded, "The embedding should be part of the key");
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test the least recently used eviction")
+    void testLeastRecentlyUsed() throws Exception {
+        var cache = new FontCache(2, EvictionPolicy.LEAST_RECENTLY_USED);
+        var regular = cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Bold"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Italic"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+
+        assertEquals(1, cache.getEvictions());
+        assertSame(regular, cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED), "The font read last should be kept");
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test the first in first out eviction")
+    void testFirstInFirstOut() throws Exception {
+        var cache = new FontCache(2, EvictionPolicy.FIRST_IN_FIRST_OUT);
+        var regular = cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Bold"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        cache.get(font("Roboto-Italic"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+
+        assertNotSame(regular, cache.get(font("Roboto-Regular"), BaseFont.IDENTITY_H, BaseFont.EMBEDDED), "The font added first should be removed");
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test that a font requested by several threads is parsed once")
+    void testConcurrentLoading() throws Exception {
+        var cache = new FontCache(4, EvictionPolicy.LEAST_RECENTLY_USED);
+        var path = font("Roboto-Medium");
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = Collections.nCopies(32, (Callable<BaseFont>) () -> cache.get(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED));
+            var results = executor.invokeAll(tasks);
+            var first = results.get(0).get();
+            for (Future<BaseFont> result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(31, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Test that a font that could not be read is not cached")
+    void testFailure() throws Exception {
+        var cache = new FontCache(4, EvictionPolicy.LEAST_RECENTLY_USED);
+        var notAFont = Paths.get(ClassLoader.getSystemResource("fonts/LICENSE.txt").toURI());
+
+        assertThrows(RuntimeException.class, () -> cache.get(notAFont, BaseFont.IDENTITY_H, BaseFont.EMBEDDED));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test that the loading mode is part of the key")
+    void testLoading() throws Exception {
+        var cache = new FontCache(4, EvictionPolicy.LEAST_RECENTLY_USED);
+        var path = font("Roboto-Regular");
+
+        var mapped = cache.get(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, FontLoading.MEMORY_MAPPED);
+        var heap = cache.get(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, FontLoading.HEAP);
+
+        assertNotSame(mapped, heap);
+        assertSame(mapped, cache.get(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED), "Fonts should be memory-mapped by default");
+        assertEquals(mapped.getWidth("Roboto"), heap.getWidth("Roboto"), "Both modes should read the same metrics");
+    }
+}
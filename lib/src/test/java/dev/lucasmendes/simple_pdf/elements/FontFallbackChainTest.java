@@ -0,0 +1,106 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.FontFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This is a test class for {@link FontFallbackChain}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for FontFallbackChain")
+class FontFallbackChainTest {
+    private SimpleFont helvetica;
+    private SimpleFont roboto;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.helvetica = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        this.roboto = SimpleFont.fromFile(Paths.get(ClassLoader.getSystemResource("fonts/Roboto-Regular.ttf").toURI()));
+    }
+
+    @Test
+    @DisplayName("Test that each character is routed to the first font that can display it")
+    void testRouting() {
+        var chain = FontFallbackChain.of(this.helvetica, List.of(this.roboto));
+
+        assertSame(this.helvetica, chain.getPrimary());
+        assertSame(this.helvetica, chain.getFont('A'));
+        assertEquals(this.roboto.getName(), chain.getFont('\u0416').getName(), "Helvetica has no Cyrillic glyphs");
+        assertEquals(10f, chain.getFont('\u0416').getSize(), "The fallback should take the size of the primary font");
+        assertSame(this.helvetica, chain.getFont('\u4e2d'), "A character no font can display should use the primary font");
+    }
+
+    @Test
+    @DisplayName("Test that the chains of copies of a font share the fonts of the characters")
+    void testSharedRoutes() {
+        var chain = FontFallbackChain.of(this.helvetica, List.of(this.roboto));
+
+        assertSame(chain.getRoutes(), FontFallbackChain.of(this.helvetica.withSize(14f), List.of(this.roboto)).getRoutes());
+        assertSame(chain.getRoutes(), FontFallbackChain.of(this.helvetica.withColor(Color.RED), List.of(this.roboto)).getRoutes());
+        assertNotSame(chain.getRoutes(), FontFallbackChain.of(this.helvetica, List.of()).getRoutes(), "The fallback fonts are part of the key");
+    }
+
+    @Test
+    @DisplayName("Test that a text is split into runs of the same font")
+    void testRuns() {
+        var chain = FontFallbackChain.of(this.helvetica, List.of(this.roboto));
+        var paragraph = chain.createParagraph("Ivan \u0418\u0432\u0430\u043d Petrov");
+
+        var runs = new ArrayList<String>();
+        var families = new ArrayList<String>();
+        for (Object element : paragraph) {
+            var chunk = (Chunk) element;
+            runs.add(chunk.getContent());
+            families.add(chunk.getFont().getBaseFont() != null ? chunk.getFont().getBaseFont().getPostscriptFontName() : chunk.getFont().getFamilyname());
+        }
+
+        assertEquals(List.of("Ivan ", "\u0418\u0432\u0430\u043d", " Petrov"), runs);
+        assertEquals(families.get(0), families.get(2));
+        assertEquals(this.roboto.getMetrics().getFontName(), families.get(1));
+    }
+
+    @Test
+    @DisplayName("Test that a text the primary font can display is a single chunk")
+    void testSingleFont() {
+        var chain = FontFallbackChain.of(this.helvetica, List.of(this.roboto));
+        var paragraph = chain.createParagraph("Only Latin text");
+
+        assertEquals(1, paragraph.size());
+        assertEquals("Only Latin text", paragraph.getContent());
+    }
+
+    @Test
+    @DisplayName("Test that the paragraphs use the chain of the fallback fonts")
+    void testParagraph() {
+        var chain = FontFallbackChain.of(this.helvetica, List.of(this.roboto));
+        var paragraph = new SimpleParagraph("\u0418\u0432\u0430\u043d", this.roboto).withFallbackChain(chain);
+
+        assertSame(this.helvetica, paragraph.getFont(), "The primary font of the chain should be the font of the paragraph");
+        assertEquals("\u0418\u0432\u0430\u043d", paragraph.getElement().getContent());
+        assertSame(chain, paragraph.withHorizontalAlignment(paragraph.getHorizontalAlignment()).getFallbackChain());
+    }
+
+    @Test
+    @DisplayName("Test the maximum number of fallback fonts")
+    void testMaximumFonts() {
+        var fallbacks = new ArrayList<SimpleFont>();
+        for (int i = 0; i < 127; i++) {
+            fallbacks.add(this.roboto);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> FontFallbackChain.of(this.helvetica, fallbacks));
+    }
+}
@@ -0,0 +1,51 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.BaseFont;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link FontMetrics}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for FontMetrics")
+class FontMetricsTest {
+
+    private static BaseFont roboto() throws Exception {
+        var path = Paths.get(ClassLoader.getSystemResource("fonts/Roboto-Regular.ttf").toURI());
+        return FontCache.global().get(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+    }
+
+    @Test
+    @DisplayName("Test that the widths are the ones of the font")
+    void testWidths() throws Exception {
+        var baseFont = roboto();
+        var metrics = FontMetrics.of(baseFont);
+        var text = "The quick brown fox jumps over the lazy dog \u00e7\u00e3";
+
+        for (int i = 0; i < text.length(); i++) {
+            assertEquals(baseFont.getWidth(text.charAt(i)), metrics.getWidth(text.charAt(i)));
+        }
+        assertEquals(baseFont.getWidthPoint(text, 12), metrics.getWidth(text, 12), 0.001);
+        assertSame(metrics, FontMetrics.of(baseFont), "The metrics of a font should be computed once");
+    }
+
+    @Test
+    @DisplayName("Test the characters the font can display")
+    void testCoverage() throws Exception {
+        var metrics = FontMetrics.of(roboto());
+
+        assertTrue(metrics.canDisplay('A'));
+        assertTrue(metrics.canDisplay('\u00e7'));
+        assertFalse(metrics.canDisplay('\u4e2d'), "Roboto has no CJK glyphs");
+        assertFalse(metrics.canDisplay(0x1F600), "Characters outside the BMP are not covered");
+        assertTrue(metrics.getCoveredCharacters() > 100);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This is a test class for {@link ImageCache}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ImageCache")
+class ImageCacheTest {
+
+    private static URL logo() {
+        return ClassLoader.getSystemResource("images/simple_pdf_logo.jpg");
+    }
+
+    @Test
+    @DisplayName("Test that an image is decoded once and the copies share its data")
+    void testHitsAndMisses() throws Exception {
+        var cache = new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES);
+
+        var first = cache.get(logo());
+        var second = cache.get(logo());
+        second.scaleAbsolute(10, 10);
+
+        assertNotSame(first, second, "Every call should return a copy");
+        assertSame(first.getRawData(), second.getRawData(), "The copies should share the decoded data");
+        assertEquals(first.getMySerialId(), second.getMySerialId(), "The copies should be embedded once");
+        assertEquals(first.getPlainWidth(), Image.getInstance(logo()).getPlainWidth());
+        assertEquals(Image.getInstance(logo()).getScaledWidth(), first.getScaledWidth(), "Scaling a copy should not change the others");
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(first.getRawData().length, cache.getBytes());
+    }
+
+    @Test
+    @DisplayName("Test the eviction of the least recently used images by size")
+    void testEviction() throws Exception {
+        var weight = Image.getInstance(logo()).getRawData().length;
+        var cache = new ImageCache(2L * weight);
+        cache.get("a", () -> Image.getInstance(logo()));
+        cache.get("b", () -> Image.getInstance(logo()));
+        cache.get("a", () -> Image.getInstance(logo()));
+        cache.get("c", () -> Image.getInstance(logo()));
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+        assertEquals(2L * weight, cache.getBytes());
+        cache.get("a", () -> Image.getInstance(logo()));
+        assertEquals(3, cache.getMisses(), "The image used last should be kept");
+
+        var small = new ImageCache(weight / 2);
+        small.get("a", () -> Image.getInstance(logo()));
+        assertEquals(0, small.size(), "An image bigger than the cache should not be kept");
+        assertEquals(0, small.getBytes());
+    }
+
+    @Test
+    @DisplayName("Test that an image requested by several threads is decoded once")
+    void testConcurrentLoading() throws Exception {
+        var cache = new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = Collections.nCopies(32, (Callable<Image>) () -> cache.get(logo()));
+            var results = executor.invokeAll(tasks);
+            for (Future<Image> result : results) {
+                assertSame(results.get(0).get().getRawData(), result.get().getRawData());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(31, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Test that an image that could not be read is not cached")
+    void testFailure() {
+        var cache = new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES);
+
+        assertThrows(IOException.class, () -> cache.get("missing", () -> {
+            throw new IOException("missing");
+        }));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test that a file written again is read again")
+    void testRewrittenFile(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("chart.png");
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        assertEquals(10f, PdfImage.fromFile(file.toFile()).getElement().getWidth());
+
+        ImageIO.write(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+        assertEquals(40f, PdfImage.fromFile(file.toFile()).getElement().getWidth());
+    }
+}
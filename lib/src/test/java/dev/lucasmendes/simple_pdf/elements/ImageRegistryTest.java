@@ -0,0 +1,85 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * This is a test class for {@link ImageRegistry}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ImageRegistry")
+class ImageRegistryTest {
+    private final ImageCache previousCache = ImageCache.global();
+
+    @AfterEach
+    void tearDown() {
+        ImageCache.setGlobal(this.previousCache);
+    }
+
+    private static URL logo() {
+        return ClassLoader.getSystemResource("images/simple_pdf_logo.jpg");
+    }
+
+    @Test
+    @DisplayName("Test that the copies of an image share its identity even when the global cache evicts it")
+    void testIdentity() throws Exception {
+        ImageCache.setGlobal(new ImageCache(1));
+        var registry = new ImageRegistry();
+
+        var first = registry.get(logo());
+        var second = registry.get(new URL(logo().toExternalForm()));
+
+        assertNotSame(first, second);
+        assertSame(first.getRawData(), second.getRawData());
+        assertEquals(first.getMySerialId(), second.getMySerialId());
+        assertEquals(1, registry.size());
+        assertEquals(1, ImageCache.global().getMisses(), "The image should be loaded once");
+    }
+
+    @Test
+    @DisplayName("Test that an image in the header of every page is written once")
+    void testHeaderOnEveryPage() throws Exception {
+        ImageCache.setGlobal(new ImageCache(1));
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.setHeaderEvent(editor -> editor.addTable(2, table -> table
+                            .add(new PdfImage(logo()).withSize(40, 40))
+                            .add(new PdfImage(logo()).withSize(20, 20))))
+                    .registerEvents()
+                    .open();
+            var editor = wrapper.toEditor();
+            for (int i = 0; i < 5; i++) {
+                if (i > 0) {
+                    editor.newPage();
+                }
+                editor.add(new SimpleParagraph("Page " + i, new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA))));
+            }
+            assertEquals(1, wrapper.getPdfCommons().getImageRegistry().size());
+        }
+
+        var reader = new PdfReader(output.toByteArray());
+        var images = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream() && PdfName.IMAGE.equals(((PdfStream) object).get(PdfName.SUBTYPE))) {
+                images++;
+            }
+        }
+        assertEquals(5, reader.getNumberOfPages());
+        assertEquals(1, images, "The document should have one image object");
+    }
+}
@@ -0,0 +1,106 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+import dev.lucasmendes.simple_pdf.configurations.ImageCompression;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.models.Size;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link ImageResampler}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ImageResampler")
+class ImageResamplerTest {
+    private static final Size CELL = new Size(40, 40);
+
+    private static byte[] photo(int width, int height, String format, int type) throws IOException {
+        var image = new BufferedImage(width, height, type);
+        var graphics = image.createGraphics();
+        try {
+            for (int x = 0; x < width; x += 50) {
+                graphics.setColor(new Color(x * 7 % 256, x * 13 % 256, x * 31 % 256, 200));
+                graphics.fillRect(x, 0, 50, height);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Test that an image is resampled to the pixels of its size at the resolution")
+    void testResampleJpeg() throws Exception {
+        var data = photo(3000, 2000, "jpeg", BufferedImage.TYPE_INT_RGB);
+        var image = ImageResampler.resample(data, CELL, ImageCompression.jpeg(150, 0.8f));
+
+        assertEquals(Image.ORIGINAL_JPEG, image.getOriginalType());
+        assertEquals(83, image.getWidth(), "40 points at 150 dpi should be 83 pixels");
+        assertEquals(56, image.getHeight());
+        assertEquals(3000, image.getScaledWidth(), "The image should keep its natural size");
+        assertEquals(2000, image.getScaledHeight());
+        assertTrue(image.getRawData().length < data.length / 10);
+    }
+
+    @Test
+    @DisplayName("Test the encoding without losses and of images with transparency")
+    void testResampleFlate() throws Exception {
+        var data = photo(3000, 2000, "jpeg", BufferedImage.TYPE_INT_RGB);
+        var flate = ImageResampler.resample(data, CELL, ImageCompression.flate(300));
+        var transparent = ImageResampler.resample(photo(1000, 1000, "png", BufferedImage.TYPE_INT_ARGB), CELL, new ImageCompression());
+
+        assertNotEquals(Image.ORIGINAL_JPEG, flate.getOriginalType());
+        assertEquals(167, flate.getWidth());
+        assertNotEquals(Image.ORIGINAL_JPEG, transparent.getOriginalType(), "JPEG has no alpha channel");
+        assertTrue(transparent.getImageMask() != null, "The transparency should be kept");
+    }
+
+    @Test
+    @DisplayName("Test that an image that does not have more pixels than it needs is not changed")
+    void testSmallImage() throws Exception {
+        var data = photo(50, 50, "jpeg", BufferedImage.TYPE_INT_RGB);
+        var image = ImageResampler.resample(data, CELL, new ImageCompression());
+
+        assertArrayEquals(data, image.getRawData());
+    }
+
+    @Test
+    @DisplayName("Test the default image compression of a document")
+    void testDocumentDefault(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("photo.jpg");
+        Files.write(file, photo(3000, 2000, "jpeg", BufferedImage.TYPE_INT_RGB));
+        var image = PdfImage.fromFile(file.toFile()).withSize(40, 40);
+
+        var original = write(image, null);
+        var compressed = write(image, new ImageCompression());
+
+        assertTrue(compressed < original / 10, "The document should not embed the full resolution image");
+        assertEquals(83, image.withCompression(new ImageCompression()).getElement().getWidth());
+    }
+
+    private static int write(PdfImage image, ImageCompression compression) {
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.setImageCompression(compression).open().toEditor().addTable(1, table -> table.add(image));
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,118 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link ImageSource}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ImageSource")
+class ImageSourceTest {
+    private Path logo;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.logo = Paths.get(ClassLoader.getSystemResource("images/simple_pdf_logo.jpg").toURI());
+        this.content = Files.readAllBytes(this.logo);
+    }
+
+    @Test
+    @DisplayName("Test that the sources with the same content have the same key")
+    void testKeys() throws Exception {
+        var bytes = ImageSource.of(this.content);
+        var direct = ByteBuffer.allocateDirect(this.content.length + 4).put(new byte[4]).put(this.content);
+        direct.position(4);
+        try (var channel = FileChannel.open(this.logo)) {
+            var mapped = ImageSource.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+            assertEquals(bytes, mapped);
+            assertEquals(bytes, ImageSource.of(direct));
+            assertEquals(4, direct.position(), "The position of the buffer should not change");
+            assertEquals(bytes, ImageSource.of(new ByteArrayInputStream(this.content)));
+            assertEquals(bytes, ImageSource.of(() -> new ByteArrayInputStream(this.content)));
+            assertArrayEquals(this.content, mapped.read());
+        }
+        assertTrue(bytes.getKey().startsWith("sha-256:"));
+        assertNotEquals(bytes, ImageSource.of(this.logo.toUri().toURL()));
+        assertEquals(this.logo.toUri().toURL().toExternalForm(), ImageSource.of(this.logo.toUri().toURL()).getKey());
+    }
+
+    @Test
+    @DisplayName("Test that the streams of a supplier are read only when they are needed")
+    void testLazySupplier() throws Exception {
+        var opened = new AtomicInteger();
+        var image = PdfImage.fromStream(() -> {
+            opened.incrementAndGet();
+            return (InputStream) new ByteArrayInputStream(this.content);
+        });
+
+        assertEquals(0, opened.get());
+        assertNull(image.getImageUrl());
+        assertEquals(PdfImage.fromBytes(this.content).getSource(), image.getSource(), "The sources should be equal by content");
+        assertEquals(1, opened.get());
+        new ImageCache(ImageCache.DEFAULT_MAXIMUM_BYTES).get(image.getSource());
+        assertEquals(2, opened.get(), "The content should be read again to be decoded");
+    }
+
+    @Test
+    @DisplayName("Test that the images with the same content are written once")
+    void testDeduplication() throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.open().toEditor().addTable(3, table -> table
+                    .add(PdfImage.fromBytes(this.content.clone()).withSize(40, 40))
+                    .add(PdfImage.fromBuffer(ByteBuffer.wrap(this.content.clone())).withSize(40, 40))
+                    .add(PdfImage.fromStream(() -> new ByteArrayInputStream(this.content)).withSize(40, 40)));
+        }
+
+        var reader = new PdfReader(output.toByteArray());
+        var images = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream() && PdfName.IMAGE.equals(((PdfStream) object).get(PdfName.SUBTYPE))) {
+                images++;
+            }
+        }
+        assertEquals(1, images);
+    }
+
+    @Test
+    @DisplayName("Test that the text and the hash code of an image do not read its stream")
+    void testNoReadForTextAndHashCode() {
+        var opened = new AtomicInteger();
+        Supplier<InputStream> streams = () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(this.content);
+        };
+        var image = PdfImage.fromStream(streams);
+
+        assertTrue(image.toString().contains("ImageSource(stream)"), image.toString());
+        assertEquals(image.hashCode(), image.hashCode());
+        assertEquals(0, opened.get(), "The stream should not be read");
+    }
+}
@@ -0,0 +1,151 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Image;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Collectors;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * This is a test class for {@link ImageStreamCache}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for ImageStreamCache")
+class ImageStreamCacheTest {
+
+    private static byte[] transparentPng(int seed) throws IOException {
+        var image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        var graphics = image.createGraphics();
+        try {
+            graphics.setColor(new Color(seed * 40 % 256, 120, 200, 128));
+            graphics.fillOval(10, 10, 180, 80);
+        } finally {
+            graphics.dispose();
+        }
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        try (var input = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return input.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a decoded image and its mask are saved compressed and loaded without decoding")
+    void testSaveAndLoad(@TempDir Path directory) throws Exception {
+        var source = ImageSource.of(transparentPng(1));
+        var decoded = source.load();
+
+        var saved = new ImageStreamCache(directory).get(source);
+        var cache = new ImageStreamCache(directory);
+        var loaded = cache.get(source.getPersistentKey(), () -> fail("The image should be loaded from the directory"));
+
+        assertEquals(1, cache.getHits());
+        assertTrue(loaded.isDeflated(), "The pixels should be written as they are saved");
+        assertArrayEquals(decoded.getRawData(), inflate(loaded.getRawData()));
+        assertArrayEquals(saved.getRawData(), loaded.getRawData());
+        assertNotNull(loaded.getImageMask());
+        assertTrue(loaded.getImageMask().isDeflated());
+        assertTrue(loaded.isSmask(), "The mask should be written as a soft mask");
+        assertArrayEquals(decoded.getImageMask().getRawData(), inflate(loaded.getImageMask().getRawData()));
+        assertEquals(decoded.getPlainWidth(), loaded.getPlainWidth());
+    }
+
+    @Test
+    @DisplayName("Test that the transparent color of an image is saved")
+    void testTransparentColor(@TempDir Path directory) throws Exception {
+        var image = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xffff0000);
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        var source = ImageSource.of(output.toByteArray());
+        var decoded = source.load();
+
+        new ImageStreamCache(directory).get(source);
+        var loaded = new ImageStreamCache(directory).get(source.getPersistentKey(), () -> fail("The image should be loaded from the directory"));
+
+        assertNotNull(decoded.getTransparency());
+        assertArrayEquals(decoded.getTransparency(), loaded.getTransparency());
+    }
+
+    @Test
+    @DisplayName("Test that a JPEG image is saved as it is read, and keeps its natural size")
+    void testEncoded(@TempDir Path directory) throws Exception {
+        var content = Files.readAllBytes(Path.of(ClassLoader.getSystemResource("images/simple_pdf_logo.jpg").toURI()));
+        var resized = Image.getInstance(content);
+        resized.scaleAbsolute(10, 20);
+
+        new ImageStreamCache(directory).get("logo", () -> resized);
+        var loaded = new ImageStreamCache(directory).get("logo", () -> fail("The image should be loaded from the directory"));
+
+        assertArrayEquals(content, loaded.getRawData());
+        assertEquals(10, loaded.getPlainWidth());
+        assertEquals(20, loaded.getPlainHeight());
+    }
+
+    @Test
+    @DisplayName("Test the deletion of the least recently used files")
+    void testEviction(@TempDir Path directory) throws Exception {
+        var first = ImageSource.of(transparentPng(1));
+        var second = ImageSource.of(transparentPng(2));
+        var third = ImageSource.of(transparentPng(3));
+        var sizing = new ImageStreamCache(directory.resolve("sizing"));
+        sizing.get(first);
+        long fileSize;
+        try (var files = Files.list(directory.resolve("sizing"))) {
+            fileSize = Files.size(files.findFirst().orElseThrow());
+        }
+
+        var cache = new ImageStreamCache(directory, fileSize * 2 + fileSize / 2);
+        cache.get(first);
+        cache.get(second);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(1000));
+            }
+        }
+        cache.get(first);
+        cache.get(third);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(3, cache.getMisses());
+        cache.get(first.getPersistentKey(), () -> fail("The image used last should be kept"));
+    }
+
+    @Test
+    @DisplayName("Test that a corrupted file is saved again")
+    void testCorruptedFile(@TempDir Path directory) throws Exception {
+        var source = ImageSource.of(transparentPng(1));
+        new ImageStreamCache(directory).get(source);
+        try (var files = Files.list(directory)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[]{1, 2, 3});
+        }
+
+        var cache = new ImageStreamCache(directory);
+        var image = cache.get(source);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(200, image.getWidth());
+        assertNotNull(new ImageStreamCache(directory).get(source.getPersistentKey(), () -> fail("The image should be saved again")).getImageMask());
+    }
+}
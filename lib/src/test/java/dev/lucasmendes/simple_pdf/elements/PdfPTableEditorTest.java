@@ -3,9 +3,13 @@ package dev.lucasmendes.simple_pdf.elements;
 import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
 import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
 import dev.lucasmendes.simple_pdf.configurations.PdfWidth;
+import dev.lucasmendes.simple_pdf.configurations.SimpleCellStyle;
+import dev.lucasmendes.simple_pdf.enums.TextOverflow;
+import dev.lucasmendes.simple_pdf.models.Edges;
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfReader;
 import com.lowagie.text.pdf.PdfWriter;
 import com.lowagie.text.pdf.parser.PdfTextExtractor;
@@ -17,6 +21,8 @@ import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * This is a test class for {@link PdfPTableEditor}.
@@ -138,4 +144,48 @@ class PdfPTableEditorTest {
             );
         }
     }
+
+    @Test
+    @DisplayName("Test that the texts are fitted in the width of their columns")
+    void testTextOverflow() {
+        var font = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        var pdfTableEditor = new PdfPTableEditor(new float[]{1, 3}, new PdfCommons(new PageConfiguration()));
+        pdfTableEditor.setWidth(new PdfWidth(PdfWidth.PdfWidthType.RELATIVE, 100));
+        var text = "The quick brown fox jumps over the lazy dog";
+        var ellipsis = new SimpleCellStyle(null, Edges.all(2)).withTextOverflow(TextOverflow.ELLIPSIS);
+        var shrink = ellipsis.withTextOverflow(TextOverflow.SHRINK_TO_FIT);
+        var columnWidth = pdfTableEditor.getColumnWidth(0);
+
+        assertEquals(new PageConfiguration().getUtilizableWidth() / 4, columnWidth, 0.001);
+
+        var truncated = pdfTableEditor.createCell(new SimpleTableCell<>(new SimpleParagraph(text, font), ellipsis), 0);
+        var content = truncated.getPhrase().getContent();
+        assertTrue(content.endsWith("\u2026"), content);
+        assertTrue(font.measure(content) <= columnWidth - 4);
+        assertTrue(truncated.isNoWrap());
+
+        var shrunk = pdfTableEditor.createCell(new SimpleTableCell<>(new SimpleParagraph(text, font), shrink), 0);
+        assertEquals(text, shrunk.getPhrase().getContent());
+        assertTrue(shrunk.getPhrase().getFont().getSize() < 10f);
+
+        var wrapped = pdfTableEditor.createCell(new SimpleTableCell<>(new SimpleParagraph(text, font)), 0);
+        assertEquals(text, wrapped.getPhrase().getContent());
+        assertFalse(wrapped.isNoWrap());
+    }
+
+    @Test
+    @DisplayName("Test that the appended cells are counted to know the column of the next element")
+    void testAppendCells() {
+        var font = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        var pdfTableEditor = new PdfPTableEditor(new float[]{1, 3}, new PdfCommons(new PageConfiguration()));
+        var text = "The quick brown fox jumps over the lazy dog";
+        var ellipsis = new SimpleCellStyle(null, Edges.all(2)).withTextOverflow(TextOverflow.ELLIPSIS);
+
+        pdfTableEditor.appendCells(new PdfPCell[]{pdfTableEditor.createCell(new SimpleParagraph("First", font), 0)});
+        pdfTableEditor.add(new SimpleTableCell<>(new SimpleParagraph(text, font), ellipsis));
+
+        var cells = pdfTableEditor.getElement().getRow(0).getCells();
+        assertEquals("First", cells[0].getPhrase().getContent());
+        assertEquals(text, cells[1].getPhrase().getContent(), "The text should be fitted in the second column");
+    }
 }
@@ -0,0 +1,112 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfStream;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.core.PdfWrapper;
+import dev.lucasmendes.simple_pdf.enums.HorizontalAlignment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link PdfTemplateEditor} and {@link PageTemplate}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for PdfTemplateEditor")
+class PdfTemplateEditorTest {
+
+    @Test
+    @DisplayName("Test that a header and a footer are laid out once and stamped with the slots of every page")
+    void testStampedOnEveryPage() throws Exception {
+        var helvetica = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        var headerBuilds = new AtomicInteger();
+        var footerBuilds = new AtomicInteger();
+        var output = new ByteArrayOutputStream();
+        try (var wrapper = new PdfWrapper(output, new PageConfiguration())) {
+            wrapper.registerFont(helvetica, true)
+                    .setHeaderTemplate(template -> {
+                        headerBuilds.incrementAndGet();
+                        template.addTable(2, table -> table
+                                .add(new PdfImage(ClassLoader.getSystemResource("images/simple_pdf_logo.jpg")).withSize(40, 40))
+                                .add(new SimpleParagraph("Quarterly report")));
+                    })
+                    .setFooterTemplate(template -> {
+                        footerBuilds.incrementAndGet();
+                        template.addTable(1, table -> table
+                                .add(template.slot(page -> "Page " + page).withHorizontalAlignment(HorizontalAlignment.RIGHT)));
+                    })
+                    .registerEvents()
+                    .open();
+            var editor = wrapper.toEditor();
+            for (int i = 1; i <= 3; i++) {
+                if (i > 1) {
+                    editor.newPage();
+                }
+                editor.add(new SimpleParagraph("Body " + i));
+            }
+        }
+
+        assertEquals(1, headerBuilds.get(), "The header should be built once");
+        assertEquals(1, footerBuilds.get(), "The footer should be built once");
+
+        var reader = new PdfReader(output.toByteArray());
+        var forms = 0;
+        var images = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            var object = reader.getPdfObject(i);
+            if (object != null && object.isStream()) {
+                var subtype = ((PdfStream) object).get(PdfName.SUBTYPE);
+                if (PdfName.FORM.equals(subtype)) {
+                    forms++;
+                } else if (PdfName.IMAGE.equals(subtype)) {
+                    images++;
+                }
+            }
+        }
+        assertEquals(3, reader.getNumberOfPages());
+        assertEquals(2, forms, "The header and the footer should be written once");
+        assertEquals(1, images, "The image of the header should be written once");
+
+        var extractor = new PdfTextExtractor(reader);
+        for (int page = 1; page <= 3; page++) {
+            var text = extractor.getTextFromPage(page);
+            assertTrue(text.contains("Quarterly report"), text);
+            assertTrue(text.contains("Body " + page), text);
+            assertTrue(text.contains("Page " + page), text);
+            assertFalse(text.contains("Page " + (page % 3 + 1)), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the template has the height of its elements")
+    void testHeight() {
+        try (var wrapper = new PdfWrapper(new ByteArrayOutputStream(), new PageConfiguration())) {
+            wrapper.registerFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)), true).open();
+            var oneLine = new PdfTemplateEditor(wrapper.getPdfCommons());
+            oneLine.addTable(1, table -> table.add(new SimpleParagraph("Header")));
+            var twoLines = new PdfTemplateEditor(wrapper.getPdfCommons());
+            twoLines.addTable(1, table -> table
+                    .add(new SimpleParagraph("Header"))
+                    .add(twoLines.slot(page -> "Page " + page)));
+
+            var canvas = wrapper.getWriter().getDirectContent();
+            var oneLineHeight = oneLine.layout(canvas, 400).getHeight();
+            var twoLinesTemplate = twoLines.layout(canvas, 400);
+
+            assertTrue(oneLineHeight > 10 && oneLineHeight < 30, "One line should be measured: " + oneLineHeight);
+            assertEquals(2 * oneLineHeight, twoLinesTemplate.getHeight(), 2f, "The slot should keep the height of a line");
+            assertEquals(400, twoLinesTemplate.getTemplate().getWidth());
+            wrapper.toEditor().add(new SimpleParagraph("Body"));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.core.PdfEditor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link ResultSetSource}.
+ * It uses JUnit 5 and an in-memory H2 database for testing.
+ */
+@DisplayName("Tests for ResultSetSource")
+class ResultSetSourceTest {
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (var statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE person (id INT, name VARCHAR(50), salary DECIMAL(10, 2), birth DATE, active BOOLEAN)");
+            statement.execute("INSERT INTO person VALUES (1, 'Ana', 1500.50, DATE '1990-05-17', TRUE)");
+            statement.execute("INSERT INTO person VALUES (2, 'Pedro', NULL, NULL, FALSE)");
+            statement.execute("INSERT INTO person SELECT X + 2, 'Person ' || (X + 2), 10, NULL, TRUE FROM SYSTEM_RANGE(1, 298)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    private static PdfCommons createPdfCommons() {
+        var pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+        return pdfCommons;
+    }
+
+    private ResultSet query(String sql) throws SQLException {
+        return this.connection.createStatement().executeQuery(sql);
+    }
+
+    @Test
+    @DisplayName("Test that the headers are the labels of the columns")
+    void testHeaders() throws SQLException {
+        var source = ResultSetSource.of(this.query("SELECT id AS \"Identification\", name, salary FROM person"));
+
+        var headers = source.getColumns().stream().map(DataTableColumn::getHeader).collect(Collectors.toList());
+
+        assertEquals(List.of("Identification", "NAME", "SALARY"), headers);
+    }
+
+    @Test
+    @DisplayName("Test the values read with the typed getters")
+    void testValues() throws SQLException {
+        var source = ResultSetSource.of(this.query("SELECT * FROM person WHERE id <= 2 ORDER BY id"), 10);
+        var columns = source.getColumns();
+
+        var rows = new ArrayList<List<String>>();
+        for (ResultSet row : source) {
+            rows.add(columns.stream().map(column -> column.extract(row)).collect(Collectors.toList()));
+        }
+
+        assertEquals(List.of("1", "Ana", "1500.50", "1990-05-17", "true"), rows.get(0));
+        assertEquals(List.of("2", "Pedro", "NULL", "NULL", "false"), rows.get(1), "Null values should be rendered as NULL");
+        assertEquals(2, rows.size());
+    }
+
+    @Test
+    @DisplayName("Test that custom extractors replace the typed getters")
+    void testCustomExtractor() throws SQLException {
+        var source = ResultSetSource.of(this.query("SELECT id, name FROM person WHERE id = 1"));
+        Map<String, Function<ResultSet, String>> extractors = Map.of("NAME", row -> "custom");
+
+        var iterator = source.iterator();
+        var row = iterator.next();
+        var values = source.getColumns(extractors).stream().map(column -> column.extract(row)).collect(Collectors.toList());
+
+        assertEquals(List.of("1", "custom"), values);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test that the fetch size is set on the statement before the query is executed")
+    void testPreparedStatement() throws SQLException {
+        try (var statement = this.connection.prepareStatement("SELECT id FROM person WHERE id > ? ORDER BY id")) {
+            statement.setInt(1, 100);
+            var source = ResultSetSource.of(statement, 50);
+
+            assertEquals(50, source.getResultSet().getStatement().getFetchSize());
+            var count = 0;
+            for (ResultSet row : source) {
+                assertEquals(101 + count, row.getInt(1));
+                count++;
+            }
+            assertEquals(200, count);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that an invalid fetch size is rejected before the query is executed")
+    void testInvalidFetchSize() throws SQLException {
+        try (var statement = this.connection.prepareStatement("SELECT id FROM person")) {
+            var fetchSize = statement.getFetchSize();
+
+            assertThrows(IllegalArgumentException.class, () -> ResultSetSource.of(statement, 0));
+            assertEquals(fetchSize, statement.getFetchSize(), "The statement should not be changed");
+        }
+    }
+
+    @Test
+    @DisplayName("Test that every row of the result set is written to the document")
+    void testAddResultSetTable() throws SQLException, IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var document = new Document(); var resultSet = this.query("SELECT id, name FROM person ORDER BY id")) {
+            var writer = PdfWriter.getInstance(document, baos);
+            document.open();
+            new PdfEditor(createPdfCommons(), document, writer).addResultSetTable(resultSet, 50, builder -> builder.flushEvery(40));
+        }
+
+        var reader = new PdfReader(baos.toByteArray());
+        var extractor = new PdfTextExtractor(reader);
+        var text = new StringBuilder();
+        for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+            var pageText = extractor.getTextFromPage(page);
+            assertTrue(pageText.startsWith("ID NAME"), "The header should be repeated on page " + page);
+            text.append(pageText).append('\n');
+        }
+        assertTrue(reader.getNumberOfPages() > 1, "The table should span several pages");
+        for (int id = 3; id <= 300; id++) {
+            assertTrue(text.indexOf(id + " Person " + id) >= 0, "Row " + id + " should be written");
+        }
+    }
+}
@@ -10,6 +10,11 @@ import java.awt.*;
 import java.io.FileNotFoundException;
 import java.nio.file.FileSystemException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -241,4 +246,101 @@ public class SimpleFontTest {
                 "Created font must have style bold"
         );
     }
+
+    @Test
+    @DisplayName("Test that the base font is not changed and the variants are shared")
+    public void testVariantsAreShared() {
+        var font = FontFactory.getFont(FontFactory.HELVETICA);
+        var baseStyle = font.getStyle();
+        var baseSize = font.getSize();
+        var simpleFont = new SimpleFont(font);
+
+        var bold = simpleFont.withStyle(FontStyle.BOLD).withSize(10f).getOpenPdfFont();
+        var otherBold = simpleFont.withSize(10f).withStyle(FontStyle.BOLD).getOpenPdfFont();
+
+        assertSame(bold, otherBold, "Fonts with the same attributes should share the OpenPDF font");
+        assertNotSame(font, bold, "The base font should not be returned");
+        assertEquals(baseStyle, font.getStyle(), "The base font should not be changed");
+        assertEquals(baseSize, font.getSize(), "The base font should not be changed");
+        assertEquals(Font.BOLD, bold.getStyle());
+        assertEquals(10f, bold.getSize());
+    }
+
+    @Test
+    @DisplayName("Test the OpenPDF fonts of the variants of a font used by many threads")
+    public void testConcurrentVariants() throws Exception {
+        var simpleFont = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA));
+        var styles = new FontStyle[]{FontStyle.NORMAL, FontStyle.BOLD, FontStyle.ITALIC, FontStyle.BOLD_ITALIC};
+        var colors = new Color[]{null, Color.RED, Color.BLUE, Color.GRAY};
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Void>>();
+            for (int thread = 0; thread < 16; thread++) {
+                final var seed = thread;
+                tasks.add(() -> {
+                    var random = new Random(seed);
+                    for (int i = 0; i < 5_000; i++) {
+                        var size = 6f + random.nextInt(8);
+                        var style = styles[random.nextInt(styles.length)];
+                        var color = colors[random.nextInt(colors.length)];
+                        var font = simpleFont.withSize(size).withStyle(style).withColor(color).getOpenPdfFont();
+                        assertEquals(size, font.getSize());
+                        assertEquals(style.getValue(), font.getStyle());
+                        assertEquals(color, font.getColor());
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the measured widths are the ones of the base font")
+    public void testMeasure() throws Exception {
+        var simpleFont = SimpleFont.fromFile(Paths.get(ClassLoader.getSystemResource("fonts/Roboto-Regular.ttf").toURI())).withSize(10f);
+        var baseFont = simpleFont.getOpenPdfFont().getBaseFont();
+        var text = "Fran\u00e7ois M\u00fcller \u0418\u0432\u0430\u043d";
+
+        assertEquals(baseFont.getWidthPoint(text, 10f), simpleFont.measure(text), 0.001);
+        assertEquals(0f, simpleFont.measure(""));
+    }
+
+    @Test
+    @DisplayName("Test the length of a text that fits in a width")
+    public void testFitLength() {
+        var simpleFont = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        var text = "The quick brown fox";
+        var width = simpleFont.measure("The quick");
+
+        assertEquals(9, simpleFont.fitLength(text, width));
+        assertEquals(8, simpleFont.fitLength(text, width - 0.01f));
+        assertEquals(text.length(), simpleFont.fitLength(text, 1000f));
+        assertEquals(0, simpleFont.fitLength(text, 0f));
+        assertNotEquals(1, simpleFont.fitLength("\ud83d\ude00", 0.01f), "A surrogate pair should not be split");
+    }
+
+    @Test
+    @DisplayName("Test the truncation with an ellipsis and the size that fits")
+    public void testTruncateAndFitSize() {
+        var simpleFont = new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)).withSize(10f);
+        var text = "The quick brown fox jumps over the lazy dog";
+
+        assertSame(text, simpleFont.truncate(text, 1000f));
+        var truncated = simpleFont.truncate(text, 60f);
+        assertTrue(truncated.endsWith("\u2026"), truncated);
+        assertTrue(simpleFont.measure(truncated) <= 60f);
+        assertTrue(text.startsWith(truncated.substring(0, truncated.length() - 1)));
+
+        var size = simpleFont.fitSize(text, 100f, 4f);
+        assertTrue(size < 10f);
+        assertTrue(simpleFont.withSize(size).measure(text) <= 100f);
+        assertEquals(0f, size % 0.25f, "The size should be a multiple of a quarter of a point");
+        assertEquals(4f, simpleFont.fitSize(text, 10f, 4f));
+        assertEquals(10f, simpleFont.fitSize("fox", 100f, 4f));
+    }
 }
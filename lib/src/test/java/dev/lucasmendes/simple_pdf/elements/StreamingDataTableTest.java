@@ -0,0 +1,101 @@
+package dev.lucasmendes.simple_pdf.elements;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import dev.lucasmendes.simple_pdf.configurations.PageConfiguration;
+import dev.lucasmendes.simple_pdf.configurations.PdfCommons;
+import dev.lucasmendes.simple_pdf.core.PdfEditor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link StreamingDataTable}.
+ * It uses JUnit 5 for testing.
+ */
+@DisplayName("Tests for StreamingDataTable")
+class StreamingDataTableTest {
+
+    private static PdfCommons createPdfCommons() {
+        var pdfCommons = new PdfCommons(new PageConfiguration());
+        pdfCommons.setDefaultFont(new SimpleFont(FontFactory.getFont(FontFactory.HELVETICA)));
+        return pdfCommons;
+    }
+
+    private static List<DataTableColumn<Integer>> columns() {
+        return List.of(
+                new DataTableColumn<>("id", "Identification", item -> "row-" + item),
+                new DataTableColumn<>("square", "Square", item -> String.valueOf(item * item))
+        );
+    }
+
+    @Test
+    @DisplayName("Test that every row is written once and the header is repeated on every page")
+    void testInsertInto() throws IOException {
+        var rows = 300;
+        var baos = new ByteArrayOutputStream();
+        var pdfCommons = createPdfCommons();
+        try (var document = new Document()) {
+            var writer = PdfWriter.getInstance(document, baos);
+            document.open();
+            new PdfEditor(pdfCommons, document, writer).<Integer>addStreamingDataTable(builder -> builder
+                    .items(IntStream.range(0, rows).boxed())
+                    .columns(columns())
+                    .flushEvery(25)
+            );
+        }
+
+        var reader = new PdfReader(baos.toByteArray());
+        var extractor = new PdfTextExtractor(reader);
+        var text = new StringBuilder();
+        for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+            var pageText = extractor.getTextFromPage(page);
+            assertTrue(pageText.startsWith("Identification"), "The header should be repeated on page " + page);
+            text.append(pageText).append('\n');
+        }
+        assertTrue(reader.getNumberOfPages() > 1, "The table should span several pages");
+        for (int i = 0; i < rows; i++) {
+            var cell = "row-" + i + " ";
+            var first = text.indexOf(cell);
+            assertTrue(first >= 0, "Row " + i + " should be written");
+            assertEquals(-1, text.indexOf(cell, first + 1), "Row " + i + " should be written once");
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the items are consumed by getElement")
+    void testGetElement() {
+        var items = List.of(1, 2, 3).iterator();
+        var table = StreamingDataTable.<Integer>builder()
+                .pdfCommons(createPdfCommons())
+                .items(items)
+                .columns(columns())
+                .build();
+
+        assertEquals(4, table.getElement().size(), "The table should have the header and three rows");
+        assertFalse(items.hasNext(), "The items should be consumed");
+    }
+
+    @Test
+    @DisplayName("Test that the flush interval must be positive")
+    void testInvalidFlushEvery() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingDataTable.<Integer>builder()
+                .pdfCommons(createPdfCommons())
+                .items(List.of(1).iterator())
+                .columns(columns())
+                .flushEvery(0)
+                .build());
+    }
+}
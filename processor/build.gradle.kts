@@ -0,0 +1,58 @@
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+repositories {
+    mavenCentral()
+}
+
+group = "dev.lucasmendes"
+version = "0.0.1-SNAPSHOT"
+
+tasks.named<Jar>("jar") {
+    archiveBaseName.set(rootProject.name + "-processor")
+}
+
+dependencies {
+    implementation(project(":lib"))
+    testImplementation("org.junit.jupiter:junit-jupiter-api:5.9.3")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.9.3")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("mavenJava") {
+            artifactId = "simple-pdf-processor"
+            from(components["java"])
+            pom {
+                name = "Simple PDF Processor"
+                description = "Annotation processor that generates reflection-free data table adapters for simple-pdf"
+                url = "https://github.com/lucas-daniel-sm/simple-pdf"
+                licenses {
+                    license {
+                        name = "The Apache License, Version 2.0"
+                        url = "https://github.com/lucas-daniel-sm/simple-pdf/blob/main/LICENSE"
+                    }
+                }
+                developers {
+                    developer {
+                        id = "lucas-daniel-sm"
+                        name = "Lucas Mendes"
+                        email = "contato@lucasmendes.dev"
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package dev.lucasmendes.simple_pdf.processor;
+
+import dev.lucasmendes.simple_pdf.annotations.PdfAnnotationsProcessor;
+import dev.lucasmendes.simple_pdf.annotations.PdfIgnore;
+import dev.lucasmendes.simple_pdf.annotations.PdfName;
+import dev.lucasmendes.simple_pdf.elements.DataTableAdapter;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This annotation processor generates a {@link DataTableAdapter} for every class with fields annotated with
+ * {@link PdfName} or {@link PdfIgnore}.
+ * <p>
+ * The adapter has the header labels resolved at compile time and reads the record components with their accessors
+ * and the fields of other classes directly, like the reflection of {@link dev.lucasmendes.simple_pdf.elements.DataTable},
+ * so the tables of the class are created without reflection and getters that format or load the value are not called.
+ * The classes that cannot be read from their package (private classes, private fields of classes that are not
+ * records, generic classes) are skipped and keep using the reflection of
+ * {@link dev.lucasmendes.simple_pdf.elements.DataTable}.
+ */
+@SupportedAnnotationTypes({
+        "dev.lucasmendes.simple_pdf.annotations.PdfName",
+        "dev.lucasmendes.simple_pdf.annotations.PdfIgnore"
+})
+public class DataTableAdapterProcessor extends AbstractProcessor {
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var types = new LinkedHashSet<TypeElement>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            if (this.generated.add(type.getQualifiedName().toString())) {
+                this.generate(type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method is used to generate the adapter of a class.
+     *
+     * @param type The class.
+     */
+    private void generate(TypeElement type) {
+        var reason = this.unsupportedReason(type);
+        if (reason != null) {
+            this.note(type, reason);
+            return;
+        }
+        var columns = new ArrayList<String>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || ignore(field)) {
+                continue;
+            }
+            var accessor = this.accessor(type, field);
+            if (accessor == null) {
+                this.note(type, "the field \"" + field.getSimpleName() + "\" is private");
+                return;
+            }
+            var text = field.asType().getKind().isPrimitive()
+                    ? "String.valueOf(" + accessor + ")"
+                    : "DataTableAdapter.text(" + accessor + ")";
+            columns.add(String.format(
+                    "new DataTableColumn<%s>(%s, %s, item -> %s)",
+                    type.getQualifiedName(),
+                    literal(field.getSimpleName().toString()),
+                    literal(header(field)),
+                    text
+            ));
+        }
+        this.write(type, columns);
+    }
+
+    /**
+     * This method is used to check if the generated adapter can read the class.
+     *
+     * @param type The class.
+     * @return The reason why the class is not supported, or null if it is supported.
+     */
+    private String unsupportedReason(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic classes are not supported";
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            var enclosing = (TypeElement) element;
+            if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local and anonymous classes are not supported";
+            }
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private classes are not supported";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method is used to create the expression that reads a field of an item.
+     * The components of records are read with their accessors, and the fields of other classes directly.
+     *
+     * @param type  The class that declares the field.
+     * @param field The field.
+     * @return The expression, or null if the field cannot be read from the package of the class.
+     */
+    private String accessor(TypeElement type, VariableElement field) {
+        var name = field.getSimpleName().toString();
+        if (type.getKind().name().equals("RECORD")) {
+            return "item." + name + "()";
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "item." + name;
+        }
+        return null;
+    }
+
+    /**
+     * This method is used to write the source of the adapter.
+     *
+     * @param type    The class.
+     * @param columns The expressions that create the columns.
+     */
+    private void write(TypeElement type, List<String> columns) {
+        var packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+        var adapterName = DataTableAdapter.adapterClassName(binaryName);
+        var adapterSimpleName = adapterName.substring(adapterName.lastIndexOf('.') + 1);
+        var typeName = type.getQualifiedName().toString();
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import dev.lucasmendes.simple_pdf.elements.DataTableAdapter;\n")
+                .append("import dev.lucasmendes.simple_pdf.elements.DataTableColumn;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.util.List;\n\n")
+                .append("@Generated(\"").append(DataTableAdapterProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(adapterSimpleName)
+                .append(" implements DataTableAdapter<").append(typeName).append("> {\n")
+                .append("    private static final List<DataTableColumn<").append(typeName).append(">> COLUMNS = List.of(");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n").append("            ").append(columns.get(i));
+        }
+        source.append(columns.isEmpty() ? ");\n\n" : "\n    );\n\n")
+                .append("    @Override\n")
+                .append("    public List<DataTableColumn<").append(typeName).append(">> getColumns() {\n")
+                .append("        return COLUMNS;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try {
+            var file = this.processingEnv.getFiler().createSourceFile(adapterName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not generate " + adapterName + ": " + e.getMessage(),
+                    type
+            );
+        }
+    }
+
+    private void note(TypeElement type, String reason) {
+        this.processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "No data table adapter generated for " + type.getQualifiedName() + ", " + reason
+                        + ". The fields will be read with reflection.",
+                type
+        );
+    }
+
+    private static boolean ignore(VariableElement field) {
+        var annotation = field.getAnnotation(PdfIgnore.class);
+        return annotation != null && annotation.value();
+    }
+
+    private static String header(VariableElement field) {
+        var annotation = field.getAnnotation(PdfName.class);
+        if (annotation != null && !annotation.value().isEmpty()) {
+            return annotation.value();
+        }
+        return PdfAnnotationsProcessor.formatName(field.getSimpleName().toString());
+    }
+
+    /**
+     * This method is used to create a Java string literal.
+     *
+     * @param value The value of the literal.
+     * @return The literal, with the quotes.
+     */
+    private static String literal(String value) {
+        var literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                case '\\':
+                    literal.append('\\').append(c);
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                case '\b':
+                    literal.append("\\b");
+                    break;
+                case '\f':
+                    literal.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        // unicode escapes are translated before parsing, so line terminators must not be one
+                        literal.append(String.format("\\%03o", (int) c));
+                    } else if (c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
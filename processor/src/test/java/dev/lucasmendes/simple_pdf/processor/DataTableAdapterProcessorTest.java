@@ -0,0 +1,184 @@
+package dev.lucasmendes.simple_pdf.processor;
+
+import dev.lucasmendes.simple_pdf.elements.DataTableAdapter;
+import dev.lucasmendes.simple_pdf.elements.DataTableColumn;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This is a test class for {@link DataTableAdapterProcessor}.
+ * It compiles sample classes with the processor and loads the generated adapters.
+ */
+@DisplayName("Tests for DataTableAdapterProcessor")
+class DataTableAdapterProcessorTest {
+    private static final String SAMPLE = String.join("\n",
+            "package sample;",
+            "",
+            "import dev.lucasmendes.simple_pdf.annotations.PdfIgnore;",
+            "import dev.lucasmendes.simple_pdf.annotations.PdfName;",
+            "",
+            "public class Person {",
+            "    private static final String CONSTANT = \"constant\";",
+            "",
+            "    @PdfName(\"Identification \\\"id\\\"\")",
+            "    protected final int id;",
+            "    final String firstName;",
+            "    final String lastName;",
+            "    public final boolean active;",
+            "    @PdfIgnore",
+            "    private final Double salary;",
+            "",
+            "    public Person(int id, String firstName, String lastName, boolean active, Double salary) {",
+            "        this.id = id;",
+            "        this.firstName = firstName;",
+            "        this.lastName = lastName;",
+            "        this.active = active;",
+            "        this.salary = salary;",
+            "    }",
+            "",
+            "    public int getId() { return id; }",
+            "    public String getFirstName() { return firstName.toUpperCase(); }",
+            "    public boolean isActive() { return active; }",
+            "",
+            "    public static class Address {",
+            "        @PdfName(\"City\")",
+            "        public String city = \"Recife\";",
+            "    }",
+            "",
+            "    private static class Secret {",
+            "        @PdfName(\"Secret\")",
+            "        String value;",
+            "    }",
+            "",
+            "    public static class Account {",
+            "        @PdfName(\"Number\")",
+            "        private String number;",
+            "",
+            "        public String getNumber() { return number; }",
+            "    }",
+            "}",
+            "");
+
+    @TempDir
+    Path directory;
+
+    private ClassLoader compile(String className, String source) throws IOException {
+        var sourceFile = this.directory.resolve("src").resolve(className.replace('.', '/') + ".java");
+        var output = Files.createDirectories(this.directory.resolve("classes"));
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", output.toString()),
+                    null,
+                    fileManager.getJavaFileObjects(sourceFile)
+            );
+            task.setProcessors(List.of(new DataTableAdapterProcessor()));
+            var success = task.call();
+            assertTrue(success, () -> diagnostics.getDiagnostics().toString());
+        }
+        return new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DataTableColumn<Object>> columns(ClassLoader loader, String className) throws Exception {
+        var adapterClass = loader.loadClass(DataTableAdapter.adapterClassName(className));
+        var adapter = (DataTableAdapter<Object>) adapterClass.getConstructor().newInstance();
+        return adapter.getColumns();
+    }
+
+    @Test
+    @DisplayName("Test the columns of the generated adapter")
+    void testColumns() throws Exception {
+        var loader = this.compile("sample.Person", SAMPLE);
+
+        var columns = columns(loader, "sample.Person");
+
+        assertEquals(
+                List.of("id", "firstName", "lastName", "active"),
+                columns.stream().map(DataTableColumn::getName).collect(Collectors.toList()),
+                "Ignored and static fields should not be columns"
+        );
+        assertEquals(
+                List.of("Identification \"id\"", "First name", "Last name", "Active"),
+                columns.stream().map(DataTableColumn::getHeader).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Test the values read by the generated adapter")
+    void testValues() throws Exception {
+        var loader = this.compile("sample.Person", SAMPLE);
+        var personClass = loader.loadClass("sample.Person");
+        var person = personClass
+                .getConstructor(int.class, String.class, String.class, boolean.class, Double.class)
+                .newInstance(7, "Ana", null, true, 10.0);
+
+        var values = columns(loader, "sample.Person").stream()
+                .map(column -> column.extract(person))
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("7", "Ana", "NULL", "true"), values, "The fields should be read without their getters");
+    }
+
+    @Test
+    @DisplayName("Test the headers with line breaks and control characters")
+    void testMultiLineHeader() throws Exception {
+        var source = String.join("\n",
+                "package sample;",
+                "",
+                "import dev.lucasmendes.simple_pdf.annotations.PdfName;",
+                "",
+                "public class Invoice {",
+                "    @PdfName(\"Total\\nin BRL\\r\\n\\tpaid\\b\\f\\u0001 \\u00e9\")",
+                "    public String total = \"10\";",
+                "}",
+                "");
+        var loader = this.compile("sample.Invoice", source);
+
+        var columns = columns(loader, "sample.Invoice");
+
+        assertEquals("Total\nin BRL\r\n\tpaid\b\f\u0001 \u00e9", columns.get(0).getHeader());
+    }
+
+    @Test
+    @DisplayName("Test that nested classes get an adapter and private classes do not")
+    void testNestedClasses() throws Exception {
+        var loader = this.compile("sample.Person", SAMPLE);
+        var address = loader.loadClass("sample.Person$Address").getConstructor().newInstance();
+
+        var columns = columns(loader, "sample.Person$Address");
+
+        assertEquals("City", columns.get(0).getHeader());
+        assertEquals("Recife", columns.get(0).extract(address));
+        assertFalse(
+                Files.exists(this.directory.resolve("classes/sample/Person_Secret_DataTableAdapter.class")),
+                "Private classes should not get an adapter"
+        );
+        assertFalse(
+                Files.exists(this.directory.resolve("classes/sample/Person_Account_DataTableAdapter.class")),
+                "Classes with private fields should not get an adapter"
+        );
+    }
+}
@@ -4,4 +4,4 @@ plugins {
 }
 
 rootProject.name = "simple-pdf"
-include("lib", "example")
+include("lib", "processor", "example")